@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A FileSystem that caches the results of attribute queries made against
+ * another FileSystem for a fixed time.  Entries are keyed by the resolved,
+ * absolute pathname, so that relative and absolute Files for the same file
+ * share one entry.  Entries for a pathname are dropped when the file is
+ * modified through this file system, together with those for the files
+ * beneath it when it is deleted or renamed, but changes made by
+ * other means (including writes through file streams and other processes)
+ * are only observed once the entry expires.  For that reason the cache is
+ * disabled unless the sun.io.attributeCacheTTL property is set.
+ */
+
+class CachingFileSystem extends FileSystem {
+
+    // Sentinel for a long attribute that has not been fetched yet
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    static final class Entry {
+        final long timestamp;
+        volatile int  booleanAttributes = -1;
+        volatile long length            = UNKNOWN;
+        volatile long lastModified      = UNKNOWN;
+
+        Entry(long timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+
+    private final FileSystem fs;
+    private final long millisUntilExpiration;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String,Entry> map = new ConcurrentHashMap<>();
+
+    CachingFileSystem(FileSystem fs, long millisUntilExpiration, int maxEntries) {
+        this.fs = fs;
+        this.millisUntilExpiration = millisUntilExpiration;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * Returns the given file system wrapped in an attribute cache if the
+     * cache has been enabled, otherwise the file system itself.
+     */
+    static FileSystem wrap(FileSystem fs) {
+        if (attributeCacheTTL <= 0)
+            return fs;
+        return new CachingFileSystem(fs, attributeCacheTTL, attributeCacheSize);
+    }
+
+    private String key(File f) {
+        return fs.resolve(f);
+    }
+
+    private Entry entryFor(File f) {
+        String key = key(f);
+        long now = System.currentTimeMillis();
+        Entry entry = map.get(key);
+        if (entry != null) {
+            long delta = now - entry.timestamp;
+            if (delta >= 0 && delta < millisUntilExpiration)
+                return entry;
+            map.remove(key, entry);
+        }
+        if (map.size() >= maxEntries)
+            cleanup(now);
+        Entry e = new Entry(now);
+        entry = map.putIfAbsent(key, e);
+        return (entry != null) ? entry : e;
+    }
+
+    private void cleanup(long now) {
+        Iterator<Entry> it = map.values().iterator();
+        while (it.hasNext()) {
+            long delta = now - it.next().timestamp;
+            if (delta < 0 || delta >= millisUntilExpiration)
+                it.remove();
+        }
+        // Still full of live entries; start again rather than evict
+        // entries one at a time on every miss
+        if (map.size() >= maxEntries)
+            map.clear();
+    }
+
+    private void invalidate(File f) {
+        map.remove(key(f));
+    }
+
+    /*
+     * Returns false if the cache knows the file with the given key to be a
+     * regular file, and so to have no files beneath it.
+     */
+    private boolean mayHaveChildren(String key) {
+        Entry e = map.get(key);
+        if (e == null)
+            return true;
+        int ba = e.booleanAttributes;
+        return ba < 0 || (ba & BA_REGULAR) == 0;
+    }
+
+    /*
+     * Drops the entry for the given key and, if children is true, the
+     * entries for all the pathnames beneath it.
+     */
+    private void invalidateTree(String key, boolean children) {
+        map.remove(key);
+        if (children) {
+            char sep = fs.getSeparator();
+            String prefix = (key.length() > 0 && key.charAt(key.length() - 1) == sep)
+                ? key : key + sep;
+            Iterator<String> it = map.keySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().startsWith(prefix))
+                    it.remove();
+            }
+        }
+    }
+
+    /* -- Normalization and construction -- */
+
+    public char getSeparator()                    { return fs.getSeparator(); }
+    public char getPathSeparator()                { return fs.getPathSeparator(); }
+    public String normalize(String path)          { return fs.normalize(path); }
+    public int prefixLength(String path)          { return fs.prefixLength(path); }
+    public String resolve(String parent, String child) {
+        return fs.resolve(parent, child);
+    }
+    public String getDefaultParent()              { return fs.getDefaultParent(); }
+    public String fromURIPath(String path)        { return fs.fromURIPath(path); }
+
+    /* -- Path operations -- */
+
+    public boolean isAbsolute(File f)             { return fs.isAbsolute(f); }
+    public String resolve(File f)                 { return fs.resolve(f); }
+    public String canonicalize(String path) throws IOException {
+        return fs.canonicalize(path);
+    }
+
+    /* -- Attribute accessors -- */
+
+    public int getBooleanAttributes(File f) {
+        Entry e = entryFor(f);
+        int rv = e.booleanAttributes;
+        if (rv < 0)
+            e.booleanAttributes = rv = fs.getBooleanAttributes(f);
+        return rv;
+    }
+
+    public boolean checkAccess(File f, int access) {
+        return fs.checkAccess(f, access);
+    }
+
+    public boolean setPermission(File f, int access, boolean enable,
+                                 boolean owneronly) {
+        try {
+            return fs.setPermission(f, access, enable, owneronly);
+        } finally {
+            invalidate(f);
+        }
+    }
+
+    public long getLastModifiedTime(File f) {
+        Entry e = entryFor(f);
+        long rv = e.lastModified;
+        if (rv == UNKNOWN)
+            e.lastModified = rv = fs.getLastModifiedTime(f);
+        return rv;
+    }
+
+    public long getLength(File f) {
+        Entry e = entryFor(f);
+        long rv = e.length;
+        if (rv == UNKNOWN)
+            e.length = rv = fs.getLength(f);
+        return rv;
+    }
+
+    /* -- File operations -- */
+
+    public boolean createFileExclusively(String pathname) throws IOException {
+        String key = key(new File(pathname));
+        map.remove(key);
+        try {
+            return fs.createFileExclusively(pathname);
+        } finally {
+            map.remove(key);
+        }
+    }
+
+    public boolean delete(File f) {
+        String key = key(f);
+        boolean children = mayHaveChildren(key);
+        try {
+            return fs.delete(f);
+        } finally {
+            invalidateTree(key, children);
+        }
+    }
+
+    public String[] list(File f)                  { return fs.list(f); }
+
+    public FileAttributes[] listWithAttributes(File f) {
+        FileAttributes[] attrs = fs.listWithAttributes(f);
+        if (attrs != null && attrs.length < maxEntries) {
+            long now = System.currentTimeMillis();
+            if (map.size() + attrs.length >= maxEntries)
+                cleanup(now);
+            for (FileAttributes a : attrs) {
+                Entry e = new Entry(now);
+                e.booleanAttributes = a.booleanAttributes();
+                e.length = a.length();
+                e.lastModified = a.lastModified();
+                map.put(key(a.getFile()), e);
+            }
+        }
+        return attrs;
+    }
+
+    public boolean createDirectory(File f) {
+        try {
+            return fs.createDirectory(f);
+        } finally {
+            invalidate(f);
+        }
+    }
+
+    public boolean rename(File f1, File f2) {
+        String key1 = key(f1);
+        String key2 = key(f2);
+        boolean children1 = mayHaveChildren(key1);
+        boolean children2 = mayHaveChildren(key2);
+        try {
+            return fs.rename(f1, f2);
+        } finally {
+            invalidateTree(key1, children1);
+            invalidateTree(key2, children2);
+        }
+    }
+
+    public boolean setLastModifiedTime(File f, long time) {
+        try {
+            return fs.setLastModifiedTime(f, time);
+        } finally {
+            invalidate(f);
+        }
+    }
+
+    public boolean setReadOnly(File f) {
+        try {
+            return fs.setReadOnly(f);
+        } finally {
+            invalidate(f);
+        }
+    }
+
+    /* -- Filesystem interface -- */
+
+    public File[] listRoots()                     { return fs.listRoots(); }
+
+    /* -- Disk usage -- */
+
+    public long getSpace(File f, int t)           { return fs.getSpace(f, t); }
+
+    /* -- Basic infrastructure -- */
+
+    public int compare(File f1, File f2)          { return fs.compare(f1, f2); }
+    public int hashCode(File f)                   { return fs.hashCode(f); }
+}
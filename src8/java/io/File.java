@@ -151,9 +151,11 @@ public class File
 {
 
     /**
-     * The FileSystem object representing the platform's local file system.
+     * The FileSystem object representing the platform's local file system,
+     * wrapped in an attribute cache if one has been enabled.
      */
-    private static final FileSystem fs = DefaultFileSystem.getFileSystem();
+    private static final FileSystem fs =
+        CachingFileSystem.wrap(DefaultFileSystem.getFileSystem());
 
     /**
      * This abstract pathname's normalized pathname string. A normalized
@@ -1294,6 +1296,46 @@ public class File
         return files.toArray(new File[files.size()]);
     }
 
+    /**
+     * Returns the basic attributes of the files and directories in the
+     * directory denoted by this abstract pathname.  The behavior of this
+     * method is the same as that of the {@link #listFiles()} method, except
+     * that for each element of the directory the attributes reported by
+     * {@link #exists()}, {@link #isFile()}, {@link #isDirectory()},
+     * {@link #isHidden()}, {@link #length()} and {@link #lastModified()}
+     * are obtained in the same pass over the directory.
+     *
+     * <p> This method is intended for directory scanners that would
+     * otherwise query each file individually.  The returned attributes are
+     * a snapshot and are not updated if the files change.  If the
+     * {@code sun.io.attributeCacheTTL} system property is set to a positive
+     * number of milliseconds then the attributes are also used to populate
+     * the attribute cache consulted by the query methods of this class.
+     *
+     * @return  An array of attributes, one for each file or directory in
+     *          the directory denoted by this abstract pathname.  The array
+     *          will be empty if the directory is empty.  Returns
+     *          {@code null} if this abstract pathname does not denote a
+     *          directory, or if an I/O error occurs.
+     *
+     * @throws  SecurityException
+     *          If a security manager exists and its {@link
+     *          SecurityManager#checkRead(String)} method denies read access to
+     *          the directory
+     *
+     * @since  1.8
+     */
+    public FileAttributes[] listFilesWithAttributes() {
+        SecurityManager security = System.getSecurityManager();
+        if (security != null) {
+            security.checkRead(path);
+        }
+        if (isInvalid()) {
+            return null;
+        }
+        return fs.listWithAttributes(this);
+    }
+
     /**
      * Creates the directory named by this abstract pathname.
      *
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+/**
+ * A snapshot of the basic attributes of a file or directory, as returned
+ * by {@link File#listFilesWithAttributes()}.  The attributes are read when
+ * the directory is listed and are not updated afterwards, so they may be
+ * out of date by the time they are examined.
+ *
+ * @see     File#listFilesWithAttributes()
+ * @since   1.8
+ */
+public final class FileAttributes {
+
+    private final File file;
+    private final int booleanAttributes;
+    private final long length;
+    private final long lastModified;
+
+    FileAttributes(File file, int booleanAttributes,
+                   long length, long lastModified) {
+        this.file = file;
+        this.booleanAttributes = booleanAttributes;
+        this.length = length;
+        this.lastModified = lastModified;
+    }
+
+    int booleanAttributes() {
+        return booleanAttributes;
+    }
+
+    /**
+     * Returns the abstract pathname to which these attributes belong.
+     *
+     * @return  the file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Tells whether the file or directory existed when it was listed.
+     *
+     * @return  <code>true</code> if the file or directory existed
+     * @see     File#exists()
+     */
+    public boolean exists() {
+        return (booleanAttributes & FileSystem.BA_EXISTS) != 0;
+    }
+
+    /**
+     * Tells whether the file was a normal file when it was listed.
+     *
+     * @return  <code>true</code> if the file was a normal file
+     * @see     File#isFile()
+     */
+    public boolean isFile() {
+        return (booleanAttributes & FileSystem.BA_REGULAR) != 0;
+    }
+
+    /**
+     * Tells whether the file was a directory when it was listed.
+     *
+     * @return  <code>true</code> if the file was a directory
+     * @see     File#isDirectory()
+     */
+    public boolean isDirectory() {
+        return (booleanAttributes & FileSystem.BA_DIRECTORY) != 0;
+    }
+
+    /**
+     * Tells whether the file was hidden when it was listed.
+     *
+     * @return  <code>true</code> if the file was hidden
+     * @see     File#isHidden()
+     */
+    public boolean isHidden() {
+        return (booleanAttributes & FileSystem.BA_HIDDEN) != 0;
+    }
+
+    /**
+     * Returns the length of the file when it was listed.
+     *
+     * @return  the length in bytes, or <code>0L</code> under the same
+     *          conditions as {@link File#length()}
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns the time at which the file was last modified, as of when it
+     * was listed.
+     *
+     * @return  the time in milliseconds since the epoch, or <code>0L</code>
+     *          under the same conditions as {@link File#lastModified()}
+     */
+    public long lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns the pathname string of the file to which these attributes
+     * belong.
+     *
+     * @return  the pathname string
+     */
+    public String toString() {
+        return file.getPath();
+    }
+}
@@ -168,6 +168,28 @@ abstract class FileSystem {
      */
     public abstract String[] list(File f);
 
+    /**
+     * List the elements of the directory denoted by the given abstract
+     * pathname together with their simple boolean attributes, lengths and
+     * last-modified times.  Return <code>null</code> under the same
+     * conditions as <code>list</code>.  This implementation lists the
+     * directory and then queries each element in turn; platforms may
+     * override it to read the attributes during the directory scan.
+     */
+    public FileAttributes[] listWithAttributes(File f) {
+        String[] names = list(f);
+        if (names == null) return null;
+        FileAttributes[] attrs = new FileAttributes[names.length];
+        for (int i = 0; i < names.length; i++) {
+            File child = new File(f, names[i]);
+            attrs[i] = new FileAttributes(child,
+                                          getBooleanAttributes(child),
+                                          getLength(child),
+                                          getLastModifiedTime(child));
+        }
+        return attrs;
+    }
+
     /**
      * Create a new directory denoted by the given abstract pathname,
      * returning <code>true</code> if and only if the operation succeeds.
@@ -227,6 +249,11 @@ abstract class FileSystem {
     static boolean useCanonCaches      = true;
     static boolean useCanonPrefixCache = true;
 
+    // Time-to-live in milliseconds and maximum size of the optional
+    // attribute cache; a non-positive time-to-live disables the cache
+    static long attributeCacheTTL   = 0;
+    static int  attributeCacheSize  = 10000;
+
     private static boolean getBooleanProperty(String prop, boolean defaultVal) {
         String val = System.getProperty(prop);
         if (val == null) return defaultVal;
@@ -237,10 +264,25 @@ abstract class FileSystem {
         }
     }
 
+    private static long getLongProperty(String prop, long defaultVal) {
+        String val = System.getProperty(prop);
+        if (val == null) return defaultVal;
+        try {
+            return Long.parseLong(val.trim());
+        } catch (NumberFormatException e) {
+            return defaultVal;
+        }
+    }
+
     static {
         useCanonCaches      = getBooleanProperty("sun.io.useCanonCaches",
                                                  useCanonCaches);
         useCanonPrefixCache = getBooleanProperty("sun.io.useCanonPrefixCache",
                                                  useCanonPrefixCache);
+        attributeCacheTTL   = getLongProperty("sun.io.attributeCacheTTL",
+                                              attributeCacheTTL);
+        attributeCacheSize  = (int) Math.min(Integer.MAX_VALUE,
+                                  getLongProperty("sun.io.attributeCacheSize",
+                                                  attributeCacheSize));
     }
 }
@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * This class implements an output stream in which the data is written
+ * into a chain of byte array segments. Unlike {@link ByteArrayOutputStream},
+ * the buffer grows by appending new segments, so previously written data
+ * is never copied when the capacity of the stream is increased.
+ * <p>
+ * The data can be retrieved as a single array using
+ * <code>toByteArray()</code>, or without copying as a sequence of
+ * buffers using <code>toByteBuffers()</code>. The contents may also be
+ * written to a {@link WritableByteChannel} using a gathering write
+ * where the channel supports one.
+ * <p>
+ * Segments may optionally be obtained from, and returned to, a
+ * {@link SegmentPool} so that the backing arrays of short-lived streams
+ * can be recycled. Segments other than the first are returned to the pool
+ * when the stream is {@linkplain #reset() reset}, and all of them are
+ * returned when the stream is {@linkplain #release() released}. Once
+ * released, a stream can no longer be used and its methods throw
+ * <tt>IllegalStateException</tt>.
+ * <p>
+ * Closing a <tt>SegmentedByteArrayOutputStream</tt> has no effect. The
+ * methods in this class can be called after the stream has been closed
+ * without generating an <tt>IOException</tt>.
+ *
+ * @see     ByteArrayOutputStream
+ * @since   1.8
+ */
+
+public class SegmentedByteArrayOutputStream extends OutputStream {
+
+    /*
+     * Segments are kept in the spine array in write order; spine[segIndex]
+     * is the segment currently being written and pos is the index of the
+     * next byte to be written within it. All segments before segIndex are
+     * full. When no pool is used the segment size doubles, as in the
+     * stream package's SpinedBuffer, until it reaches MAX_SEGMENT_SIZE so
+     * that large streams are built from many moderately sized arrays
+     * rather than from a few huge ones.
+     */
+
+    /**
+     * The size of the first segment when none is specified.
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 32;
+
+    /**
+     * The largest segment allocated when growing without a pool.
+     */
+    private static final int MAX_SEGMENT_SIZE = 1 << 20;
+
+    /**
+     * Minimum length of the spine array.
+     */
+    private static final int MIN_SPINE_SIZE = 8;
+
+    /**
+     * The pool from which segments are obtained, or null.
+     */
+    private final SegmentPool pool;
+
+    /**
+     * The segments, in write order; entries past segIndex are null. Null
+     * once the stream has been released.
+     */
+    private byte[][] spine;
+
+    /**
+     * Index of the segment currently being written.
+     */
+    private int segIndex;
+
+    /**
+     * Index of the next byte to be written in the current segment.
+     */
+    private int pos;
+
+    /**
+     * Total number of bytes in all segments before the current one.
+     */
+    private long priorCount;
+
+    /**
+     * Creates a new segmented output stream. The first segment is initially
+     * 32 bytes, and subsequent segments are successively larger.
+     */
+    public SegmentedByteArrayOutputStream() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new segmented output stream whose first segment has the
+     * specified size, in bytes.
+     *
+     * @param   size   the size of the first segment.
+     * @exception  IllegalArgumentException if size is not positive.
+     */
+    public SegmentedByteArrayOutputStream(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Non-positive initial size: "
+                                               + size);
+        }
+        this.pool = null;
+        this.spine = new byte[MIN_SPINE_SIZE][];
+        this.spine[0] = new byte[size];
+    }
+
+    /**
+     * Creates a new segmented output stream that obtains all of its
+     * segments from the specified pool. Each segment has the size given by
+     * the pool's {@link SegmentPool#segmentSize() segmentSize()}.
+     *
+     * @param   pool   the segment pool.
+     * @exception  NullPointerException if pool is null.
+     */
+    public SegmentedByteArrayOutputStream(SegmentPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        this.spine = new byte[MIN_SPINE_SIZE][];
+        this.spine[0] = acquire();
+    }
+
+    private byte[] acquire() {
+        byte[] seg = pool.acquire();
+        if (seg == null || seg.length != pool.segmentSize())
+            throw new IllegalStateException("Pool returned an invalid segment");
+        return seg;
+    }
+
+    /**
+     * Checks that this stream has not been released.
+     */
+    private void ensureNotReleased() {
+        if (spine == null)
+            throw new IllegalStateException("Stream released");
+    }
+
+    /**
+     * Appends a new segment to the spine and makes it current.
+     */
+    private void nextSegment() {
+        byte[] cur = spine[segIndex];
+        byte[] seg;
+        if (pool != null) {
+            seg = acquire();
+        } else {
+            int newSize = cur.length << 1;
+            if (newSize <= 0 || newSize > MAX_SEGMENT_SIZE)
+                newSize = Math.max(cur.length, MAX_SEGMENT_SIZE);
+            seg = new byte[newSize];
+        }
+        if (segIndex + 1 >= spine.length)
+            spine = Arrays.copyOf(spine, spine.length << 1);
+        priorCount += cur.length;
+        spine[++segIndex] = seg;
+        pos = 0;
+    }
+
+    /**
+     * Writes the specified byte to this output stream.
+     *
+     * @param   b   the byte to be written.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized void write(int b) {
+        ensureNotReleased();
+        byte[] seg = spine[segIndex];
+        if (pos == seg.length) {
+            nextSegment();
+            seg = spine[segIndex];
+        }
+        seg[pos++] = (byte) b;
+    }
+
+    /**
+     * Writes <code>len</code> bytes from the specified byte array
+     * starting at offset <code>off</code> to this output stream.
+     *
+     * @param   b     the data.
+     * @param   off   the start offset in the data.
+     * @param   len   the number of bytes to write.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized void write(byte b[], int off, int len) {
+        if ((off < 0) || (off > b.length) || (len < 0) ||
+            ((off + len) - b.length > 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureNotReleased();
+        while (len > 0) {
+            byte[] seg = spine[segIndex];
+            if (pos == seg.length) {
+                nextSegment();
+                seg = spine[segIndex];
+            }
+            int n = Math.min(len, seg.length - pos);
+            System.arraycopy(b, off, seg, pos, n);
+            pos += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Writes the complete contents of this output stream to the specified
+     * output stream argument, one segment at a time.
+     *
+     * @param      out   the output stream to which to write the data.
+     * @exception  IOException  if an I/O error occurs.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized void writeTo(OutputStream out) throws IOException {
+        ensureNotReleased();
+        for (int i = 0; i < segIndex; i++)
+            out.write(spine[i], 0, spine[i].length);
+        out.write(spine[segIndex], 0, pos);
+    }
+
+    /**
+     * Writes the complete contents of this output stream to the specified
+     * channel. If the channel is a {@link GatheringByteChannel} then the
+     * segments are written using gathering writes, otherwise they are
+     * written one at a time. This method does not return until all bytes
+     * have been written, so a channel in non-blocking mode may be
+     * repeatedly written to until it accepts the remaining bytes.
+     *
+     * @param      ch    the channel to which to write the data.
+     * @return     the number of bytes written.
+     * @exception  IOException  if an I/O error occurs.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized long writeTo(WritableByteChannel ch) throws IOException {
+        ensureNotReleased();
+        ByteBuffer[] bufs = buffers(false);
+        long total = priorCount + pos;
+        long remaining = total;
+        if (ch instanceof GatheringByteChannel) {
+            GatheringByteChannel gch = (GatheringByteChannel) ch;
+            int first = 0;
+            while (remaining > 0) {
+                while (!bufs[first].hasRemaining())
+                    first++;
+                remaining -= gch.write(bufs, first, bufs.length - first);
+            }
+        } else {
+            for (ByteBuffer bb : bufs) {
+                while (bb.hasRemaining())
+                    remaining -= ch.write(bb);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the current contents of this output stream as a sequence of
+     * read-only byte buffers, one for each segment, without copying the
+     * data. The buffers are views of the segments; their contents are
+     * undefined once this stream is reset or released.
+     *
+     * @return  the current contents of this output stream, as an array of
+     *          byte buffers.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized ByteBuffer[] toByteBuffers() {
+        ensureNotReleased();
+        return buffers(true);
+    }
+
+    private ByteBuffer[] buffers(boolean readOnly) {
+        int n = segIndex + 1;
+        ByteBuffer[] bufs = new ByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            byte[] seg = spine[i];
+            ByteBuffer bb = ByteBuffer.wrap(seg, 0, (i == segIndex) ? pos : seg.length);
+            bufs[i] = readOnly ? bb.asReadOnlyBuffer() : bb;
+        }
+        return bufs;
+    }
+
+    /**
+     * Discards all currently accumulated output in this stream. The first
+     * segment is retained for reuse; any other segments are released, and
+     * returned to the pool if this stream has one.
+     *
+     * @exception  IllegalStateException if this stream has been released.
+     */
+    public synchronized void reset() {
+        ensureNotReleased();
+        for (int i = segIndex; i > 0; i--) {
+            if (pool != null)
+                pool.release(spine[i]);
+            spine[i] = null;
+        }
+        segIndex = 0;
+        pos = 0;
+        priorCount = 0;
+    }
+
+    /**
+     * Creates a newly allocated byte array. Its size is the current
+     * size of this output stream and the contents of the segments
+     * have been copied into it.
+     *
+     * @return  the current contents of this output stream, as a byte array.
+     * @exception  OutOfMemoryError if the size of this stream exceeds the
+     *             maximum size of an array.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     * @see     #size()
+     */
+    public synchronized byte[] toByteArray() {
+        ensureNotReleased();
+        long size = priorCount + pos;
+        if (size > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError("Required array size too large");
+        byte[] result = new byte[(int) size];
+        int off = 0;
+        for (int i = 0; i < segIndex; i++) {
+            System.arraycopy(spine[i], 0, result, off, spine[i].length);
+            off += spine[i].length;
+        }
+        System.arraycopy(spine[segIndex], 0, result, off, pos);
+        return result;
+    }
+
+    /**
+     * Returns the number of valid bytes in this output stream.
+     *
+     * @return  the number of bytes written to this stream since it was
+     *          created or last reset.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized long size() {
+        ensureNotReleased();
+        return priorCount + pos;
+    }
+
+    /**
+     * Converts the contents of this stream into a string by decoding the
+     * bytes using the named {@link java.nio.charset.Charset charset}.
+     *
+     * @param      charsetName  the name of a supported
+     *             {@link java.nio.charset.Charset charset}
+     * @return     String decoded from the stream's contents.
+     * @exception  UnsupportedEncodingException
+     *             If the named charset is not supported
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized String toString(String charsetName)
+        throws UnsupportedEncodingException
+    {
+        byte[] b = toByteArray();
+        return new String(b, 0, b.length, charsetName);
+    }
+
+    /**
+     * Converts the contents of this stream into a string decoding bytes
+     * using the platform's default character set.
+     *
+     * @return String decoded from the stream's contents.
+     * @exception  IllegalStateException if this stream has been
+     *             released.
+     */
+    public synchronized String toString() {
+        return new String(toByteArray());
+    }
+
+    /**
+     * Releases the segments of this stream, returning them to the pool if
+     * this stream has one. The contents of the stream are discarded and
+     * any further use of the stream, other than to close or release it
+     * again, throws <tt>IllegalStateException</tt>. Releasing a stream
+     * that has already been released has no effect.
+     */
+    public synchronized void release() {
+        if (spine != null) {
+            if (pool != null) {
+                for (int i = 0; i <= segIndex; i++)
+                    pool.release(spine[i]);
+            }
+            spine = null;
+            segIndex = 0;
+            pos = 0;
+            priorCount = 0;
+        }
+    }
+
+    /**
+     * Closing a <tt>SegmentedByteArrayOutputStream</tt> has no effect. The
+     * methods in this class can be called after the stream has been closed
+     * without generating an <tt>IOException</tt>. Use {@link #release()}
+     * to return the segments of the stream to its pool.
+     */
+    public void close() {
+    }
+
+    /**
+     * A source of fixed-size byte array segments for a
+     * {@code SegmentedByteArrayOutputStream}. Implementations must be
+     * safe for use by multiple threads.
+     *
+     * @since 1.8
+     */
+    public interface SegmentPool {
+        /**
+         * Returns the size, in bytes, of every segment in this pool.
+         *
+         * @return the segment size
+         */
+        int segmentSize();
+
+        /**
+         * Returns a segment of length {@link #segmentSize()}, either
+         * recycled or newly allocated. The contents of a recycled
+         * segment are unspecified.
+         *
+         * @return a segment
+         */
+        byte[] acquire();
+
+        /**
+         * Returns a segment to this pool. The caller must not use the
+         * segment afterwards.
+         *
+         * @param segment a segment previously obtained from this pool
+         */
+        void release(byte[] segment);
+
+        /**
+         * Returns a simple pool that retains at most {@code maxRetained}
+         * released segments of the given size.
+         *
+         * @param segmentSize the size of each segment, in bytes
+         * @param maxRetained the maximum number of idle segments to retain
+         * @return a new segment pool
+         * @throws IllegalArgumentException if {@code segmentSize} or
+         *         {@code maxRetained} is not positive
+         */
+        static SegmentPool newPool(int segmentSize, int maxRetained) {
+            if (segmentSize <= 0)
+                throw new IllegalArgumentException("segmentSize: " + segmentSize);
+            if (maxRetained <= 0)
+                throw new IllegalArgumentException("maxRetained: " + maxRetained);
+            ArrayBlockingQueue<byte[]> idle = new ArrayBlockingQueue<>(maxRetained);
+            return new SegmentPool() {
+                public int segmentSize() {
+                    return segmentSize;
+                }
+                public byte[] acquire() {
+                    byte[] seg = idle.poll();
+                    return (seg != null) ? seg : new byte[segmentSize];
+                }
+                public void release(byte[] segment) {
+                    if (segment.length == segmentSize)
+                        idle.offer(segment);
+                }
+            };
+        }
+    }
+}
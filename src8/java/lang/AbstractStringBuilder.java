@@ -25,7 +25,6 @@
 
 package java.lang;
 
-import sun.misc.FloatingDecimal;
 import java.util.Arrays;
 
 /**
@@ -489,6 +488,14 @@ abstract class AbstractStringBuilder implements Appendable, CharSequence {
             return this.append((String)s);
         if (s instanceof AbstractStringBuilder)
             return this.append((AbstractStringBuilder)s);
+        if (s instanceof CompactString) {
+            CompactString cs = (CompactString)s;
+            int len = cs.length();
+            ensureCapacityInternal(count + len);
+            cs.getChars(0, len, value, count);
+            count += len;
+            return this;
+        }
 
         return this.append(s, 0, s.length());
     }
@@ -544,8 +551,12 @@ abstract class AbstractStringBuilder implements Appendable, CharSequence {
                 + s.length());
         int len = end - start;
         ensureCapacityInternal(count + len);
-        for (int i = start, j = count; i < end; i++, j++)
-            value[j] = s.charAt(i);
+        if (s instanceof CompactString) {
+            ((CompactString)s).getChars(start, end, value, count);
+        } else {
+            for (int i = start, j = count; i < end; i++, j++)
+                value[j] = s.charAt(i);
+        }
         count += len;
         return this;
     }
@@ -721,7 +732,8 @@ abstract class AbstractStringBuilder implements Appendable, CharSequence {
      * @return  a reference to this object.
      */
     public AbstractStringBuilder append(float f) {
-        FloatingDecimal.appendTo(f,this);
+        ensureCapacityInternal(count + ShortestDecimal.MAX_FLOAT_CHARS);
+        count = ShortestDecimal.putFloat(f, value, count);
         return this;
     }
 
@@ -738,7 +750,8 @@ abstract class AbstractStringBuilder implements Appendable, CharSequence {
      * @return  a reference to this object.
      */
     public AbstractStringBuilder append(double d) {
-        FloatingDecimal.appendTo(d,this);
+        ensureCapacityInternal(count + ShortestDecimal.MAX_DOUBLE_CHARS);
+        count = ShortestDecimal.putDouble(d, value, count);
         return this;
     }
 
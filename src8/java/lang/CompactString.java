@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.lang;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An immutable sequence of characters in the range {@code '\u005Cu0000'}
+ * to {@code '\u005Cu00FF'} (ISO-8859-1, which includes US-ASCII), stored
+ * one byte per character.
+ *
+ * <p>A {@link String} stores two bytes per character.  Applications that
+ * keep large numbers of mostly-ASCII strings alive, such as identifiers,
+ * keys of parsed documents or buffered log text, can store them as
+ * {@code CompactString}s instead and halve the memory taken by the
+ * characters.  Conversion is explicit: {@link #compact(CharSequence)}
+ * returns a {@code CompactString} whenever the characters allow it, and
+ * {@link #toString()} returns an equal {@code String} when one is needed.
+ *
+ * <p>The common operations work on the bytes directly.
+ * {@link #hashCode()} returns the same value as the {@code hashCode} of
+ * the equal {@code String}.  {@link #compareTo} orders the same way as
+ * {@link String#compareTo}.  {@link #getBytes(Charset)} copies or widens
+ * the bytes without a general encoder for ISO-8859-1, US-ASCII and UTF-8.
+ * {@link StringBuilder} and {@link StringBuffer} append a
+ * {@code CompactString} without going through {@link #charAt}.
+ *
+ * <p>As with other {@link CharSequence} implementations, a
+ * {@code CompactString} is never {@linkplain #equals equal} to a
+ * {@code String}; use {@link #contentEquals(CharSequence)} to compare
+ * content across types.
+ *
+ * @see     String
+ * @since   1.8
+ */
+public final class CompactString
+    implements java.io.Serializable, Comparable<CompactString>, CharSequence {
+
+    private static final long serialVersionUID = 4563195946281474620L;
+
+    /** The characters, one byte each. */
+    private final byte[] value;
+
+    /** Cache the hash code */
+    private int hash; // Default to 0
+
+    /** The empty compact string. */
+    private static final CompactString EMPTY = new CompactString(new byte[0]);
+
+    private CompactString(byte[] value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the characters of the given sequence as a
+     * {@code CompactString} if all of them are in the range
+     * {@code '\u005Cu0000'} to {@code '\u005Cu00FF'}, and as a {@code String}
+     * otherwise.  If {@code s} is already a {@code CompactString} it is
+     * returned.
+     *
+     * @param   s   the character sequence
+     * @return  a {@code CompactString} or {@code String} with the same
+     *          characters as {@code s}
+     * @throws  NullPointerException if {@code s} is {@code null}
+     */
+    public static CharSequence compact(CharSequence s) {
+        if (s instanceof CompactString)
+            return s;
+        byte[] bytes = toLatin1(s);
+        if (bytes == null)
+            return s.toString();
+        return (bytes.length == 0) ? EMPTY : new CompactString(bytes);
+    }
+
+    /**
+     * Returns a {@code CompactString} with the characters of the given
+     * sequence.
+     *
+     * @param   s   the character sequence
+     * @return  a {@code CompactString} with the same characters as
+     *          {@code s}
+     * @throws  IllegalArgumentException if {@code s} contains a character
+     *          greater than {@code '\u005Cu00FF'}
+     * @throws  NullPointerException if {@code s} is {@code null}
+     */
+    public static CompactString valueOf(CharSequence s) {
+        if (s instanceof CompactString)
+            return (CompactString) s;
+        byte[] bytes = toLatin1(s);
+        if (bytes == null)
+            throw new IllegalArgumentException(
+                "Not an ISO-8859-1 character sequence");
+        return (bytes.length == 0) ? EMPTY : new CompactString(bytes);
+    }
+
+    /**
+     * Returns a {@code CompactString} whose characters are the given bytes
+     * decoded as ISO-8859-1.  Since ISO-8859-1 maps every byte to the
+     * character with the same value, this also decodes US-ASCII.  The
+     * bytes are copied.
+     *
+     * @param   bytes   the bytes to be decoded
+     * @param   offset  the index of the first byte to decode
+     * @param   length  the number of bytes to decode
+     * @return  the decoded {@code CompactString}
+     * @throws  IndexOutOfBoundsException if {@code offset} or
+     *          {@code length} is negative, or {@code offset + length} is
+     *          greater than {@code bytes.length}
+     */
+    public static CompactString valueOf(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length)
+            throw new IndexOutOfBoundsException(
+                "offset " + offset + ", length " + length
+                + ", bytes.length " + bytes.length);
+        if (length == 0)
+            return EMPTY;
+        return new CompactString(Arrays.copyOfRange(bytes, offset, offset + length));
+    }
+
+    /*
+     * Returns the characters of s as ISO-8859-1 bytes, or null if it
+     * contains a character that cannot be represented.
+     */
+    private static byte[] toLatin1(CharSequence s) {
+        int len = s.length();
+        byte[] bytes = new byte[len];
+        if (s instanceof String) {
+            char[] chars = ((String) s).value;
+            for (int i = 0; i < len; i++) {
+                char c = chars[i];
+                if (c > 0xFF)
+                    return null;
+                bytes[i] = (byte) c;
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                char c = s.charAt(i);
+                if (c > 0xFF)
+                    return null;
+                bytes[i] = (byte) c;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the length of this compact string.
+     *
+     * @return  the number of characters in this sequence
+     */
+    public int length() {
+        return value.length;
+    }
+
+    /**
+     * Returns {@code true} if, and only if, {@link #length()} is {@code 0}.
+     *
+     * @return {@code true} if {@link #length()} is {@code 0}, otherwise
+     * {@code false}
+     */
+    public boolean isEmpty() {
+        return value.length == 0;
+    }
+
+    /**
+     * Returns the {@code char} value at the specified index.
+     *
+     * @param      index   the index of the {@code char} value.
+     * @return     the {@code char} value at the specified index.
+     * @exception  IndexOutOfBoundsException  if the {@code index}
+     *             argument is negative or not less than the length of this
+     *             sequence.
+     */
+    public char charAt(int index) {
+        return (char) (value[index] & 0xFF);
+    }
+
+    /**
+     * Copies characters from this compact string into the destination
+     * character array, as by {@link String#getChars(int, int, char[], int)}.
+     *
+     * @param      srcBegin   index of the first character to copy.
+     * @param      srcEnd     index after the last character to copy.
+     * @param      dst        the destination array.
+     * @param      dstBegin   the start offset in the destination array.
+     * @exception IndexOutOfBoundsException If the indexes are out of
+     *            range for this sequence or for {@code dst}
+     */
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        if (srcBegin < 0 || srcBegin > srcEnd || srcEnd > value.length)
+            throw new StringIndexOutOfBoundsException(
+                "begin " + srcBegin + ", end " + srcEnd
+                + ", length " + value.length);
+        int n = srcEnd - srcBegin;
+        if (dstBegin < 0 || dstBegin > dst.length - n)
+            throw new ArrayIndexOutOfBoundsException(dstBegin);
+        for (int i = srcBegin, j = dstBegin; i < srcEnd; i++, j++)
+            dst[j] = (char) (value[i] & 0xFF);
+    }
+
+    /**
+     * Returns a new {@code CompactString} that is a subsequence of this
+     * sequence.
+     *
+     * @param      start   the begin index, inclusive.
+     * @param      end     the end index, exclusive.
+     * @return     the specified subsequence.
+     * @throws  IndexOutOfBoundsException
+     *          if {@code start} or {@code end} are negative,
+     *          if {@code end} is greater than {@code length()},
+     *          or if {@code start} is greater than {@code end}
+     */
+    public CompactString subSequence(int start, int end) {
+        if (start < 0 || start > end || end > value.length)
+            throw new StringIndexOutOfBoundsException(
+                "begin " + start + ", end " + end + ", length " + value.length);
+        if (start == 0 && end == value.length)
+            return this;
+        if (start == end)
+            return EMPTY;
+        return new CompactString(Arrays.copyOfRange(value, start, end));
+    }
+
+    /**
+     * Returns the index within this sequence of the first occurrence of
+     * the specified character, or {@code -1} if it does not occur.
+     *
+     * @param   ch   a character (Unicode code point).
+     * @return  the index of the first occurrence of the character, or
+     *          {@code -1} if the character does not occur.
+     */
+    public int indexOf(int ch) {
+        return indexOf(ch, 0);
+    }
+
+    /**
+     * Returns the index within this sequence of the first occurrence of
+     * the specified character, starting the search at the specified index,
+     * or {@code -1} if it does not occur.
+     *
+     * @param   ch          a character (Unicode code point).
+     * @param   fromIndex   the index to start the search from.
+     * @return  the index of the first occurrence of the character at or
+     *          after {@code fromIndex}, or {@code -1} if the character
+     *          does not occur.
+     */
+    public int indexOf(int ch, int fromIndex) {
+        if (ch >>> 8 != 0)
+            return -1;
+        final byte[] value = this.value;
+        byte b = (byte) ch;
+        for (int i = Math.max(fromIndex, 0); i < value.length; i++) {
+            if (value[i] == b)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index within this sequence of the last occurrence of
+     * the specified character, or {@code -1} if it does not occur.
+     *
+     * @param   ch   a character (Unicode code point).
+     * @return  the index of the last occurrence of the character, or
+     *          {@code -1} if the character does not occur.
+     */
+    public int lastIndexOf(int ch) {
+        if (ch >>> 8 != 0)
+            return -1;
+        final byte[] value = this.value;
+        byte b = (byte) ch;
+        for (int i = value.length - 1; i >= 0; i--) {
+            if (value[i] == b)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index within this sequence of the first occurrence of
+     * the specified character sequence, starting the search at the
+     * specified index, or {@code -1} if it does not occur.
+     *
+     * @param   str         the sequence to search for.
+     * @param   fromIndex   the index from which to start the search.
+     * @return  the index of the first occurrence of {@code str} at or
+     *          after {@code fromIndex}, or {@code -1} if there is no
+     *          such occurrence.
+     */
+    public int indexOf(CharSequence str, int fromIndex) {
+        final byte[] value = this.value;
+        int n = str.length();
+        if (fromIndex < 0)
+            fromIndex = 0;
+        if (n == 0)
+            return (fromIndex <= value.length) ? fromIndex : value.length;
+        if (str instanceof CompactString) {
+            byte[] target = ((CompactString) str).value;
+            byte first = target[0];
+            int max = value.length - n;
+            for (int i = fromIndex; i <= max; i++) {
+                if (value[i] != first)
+                    continue;
+                int j = 1;
+                while (j < n && value[i + j] == target[j])
+                    j++;
+                if (j == n)
+                    return i;
+            }
+            return -1;
+        }
+        char first = str.charAt(0);
+        if (first > 0xFF)
+            return -1;
+        int max = value.length - n;
+        for (int i = fromIndex; i <= max; i++) {
+            if ((value[i] & 0xFF) != first)
+                continue;
+            int j = 1;
+            while (j < n && (value[i + j] & 0xFF) == str.charAt(j))
+                j++;
+            if (j == n)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index within this sequence of the first occurrence of
+     * the specified character sequence, or {@code -1} if it does not occur.
+     *
+     * @param   str   the sequence to search for.
+     * @return  the index of the first occurrence of {@code str}, or
+     *          {@code -1} if there is no such occurrence.
+     */
+    public int indexOf(CharSequence str) {
+        return indexOf(str, 0);
+    }
+
+    /**
+     * Tests if this sequence starts with the specified prefix.
+     *
+     * @param   prefix   the prefix.
+     * @return  {@code true} if the characters of {@code prefix} are a
+     *          prefix of this sequence; {@code false} otherwise.
+     */
+    public boolean startsWith(CharSequence prefix) {
+        int n = prefix.length();
+        return n <= value.length && regionMatches(0, prefix, n);
+    }
+
+    /**
+     * Compares this compact string to the specified object.  The result is
+     * {@code true} if and only if the argument is a {@code CompactString}
+     * that represents the same sequence of characters as this object.
+     *
+     * @param  anObject
+     *         The object to compare this {@code CompactString} against
+     *
+     * @return  {@code true} if the given object represents a
+     *          {@code CompactString} equivalent to this compact string,
+     *          {@code false} otherwise
+     *
+     * @see  #contentEquals(CharSequence)
+     */
+    public boolean equals(Object anObject) {
+        if (this == anObject)
+            return true;
+        if (anObject instanceof CompactString) {
+            CompactString other = (CompactString) anObject;
+            int h = hash;
+            int oh = other.hash;
+            if (h != 0 && oh != 0 && h != oh)
+                return false;
+            return Arrays.equals(value, other.value);
+        }
+        return false;
+    }
+
+    /**
+     * Compares this compact string to the specified {@code CharSequence}.
+     * The result is {@code true} if and only if this sequence represents
+     * the same sequence of char values as the specified sequence.
+     *
+     * @param  cs
+     *         The sequence to compare this {@code CompactString} against
+     *
+     * @return  {@code true} if this sequence represents the same sequence
+     *          of char values as the specified sequence, {@code false}
+     *          otherwise
+     */
+    public boolean contentEquals(CharSequence cs) {
+        if (cs instanceof CompactString)
+            return Arrays.equals(value, ((CompactString) cs).value);
+        int n = cs.length();
+        return n == value.length && regionMatches(0, cs, n);
+    }
+
+    private boolean regionMatches(int offset, CharSequence cs, int n) {
+        final byte[] value = this.value;
+        if (cs instanceof String) {
+            char[] chars = ((String) cs).value;
+            for (int i = 0; i < n; i++) {
+                if ((value[offset + i] & 0xFF) != chars[i])
+                    return false;
+            }
+        } else if (cs instanceof CompactString) {
+            byte[] bytes = ((CompactString) cs).value;
+            for (int i = 0; i < n; i++) {
+                if (value[offset + i] != bytes[i])
+                    return false;
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                if ((value[offset + i] & 0xFF) != cs.charAt(i))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this compact string, computed with the same
+     * formula as {@link String#hashCode()}, so that it is equal to the
+     * hash code of {@code toString()}.
+     *
+     * @return  a hash code value for this object.
+     */
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && value.length > 0) {
+            final byte[] value = this.value;
+            for (int i = 0; i < value.length; i++) {
+                h = 31 * h + (value[i] & 0xFF);
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Compares two compact strings lexicographically, in the same order as
+     * {@link String#compareTo} compares the equal strings.
+     *
+     * @param   another   the {@code CompactString} to be compared.
+     * @return  a negative integer, zero, or a positive integer as this
+     *          sequence is less than, equal to, or greater than the
+     *          argument
+     */
+    public int compareTo(CompactString another) {
+        byte[] v1 = value;
+        byte[] v2 = another.value;
+        int lim = Math.min(v1.length, v2.length);
+        for (int k = 0; k < lim; k++) {
+            int c1 = v1[k] & 0xFF;
+            int c2 = v2[k] & 0xFF;
+            if (c1 != c2)
+                return c1 - c2;
+        }
+        return v1.length - v2.length;
+    }
+
+    /**
+     * Encodes this sequence into bytes using the given charset, as by
+     * {@link String#getBytes(Charset)}.  ISO-8859-1 and US-ASCII are
+     * encoded by copying, and UTF-8 by widening characters above
+     * {@code '\u005Cu007F'} to two bytes; other charsets go through the
+     * {@code String} encoder.
+     *
+     * @param  charset
+     *         The {@linkplain java.nio.charset.Charset} to be used to encode
+     *         this sequence
+     *
+     * @return  The resultant byte array
+     */
+    public byte[] getBytes(Charset charset) {
+        if (charset == null) throw new NullPointerException();
+        final byte[] value = this.value;
+        if (charset == StandardCharsets.ISO_8859_1)
+            return value.clone();
+        if (charset == StandardCharsets.US_ASCII) {
+            byte[] ba = value.clone();
+            for (int i = 0; i < ba.length; i++) {
+                if (ba[i] < 0)
+                    ba[i] = '?';
+            }
+            return ba;
+        }
+        if (charset == StandardCharsets.UTF_8) {
+            int extra = 0;
+            for (byte b : value) {
+                if (b < 0)
+                    extra++;
+            }
+            if (extra == 0)
+                return value.clone();
+            byte[] ba = new byte[value.length + extra];
+            int j = 0;
+            for (byte b : value) {
+                if (b >= 0) {
+                    ba[j++] = b;
+                } else {
+                    int c = b & 0xFF;
+                    ba[j++] = (byte) (0xC0 | (c >> 6));
+                    ba[j++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return ba;
+        }
+        return toString().getBytes(charset);
+    }
+
+    /**
+     * Returns a {@code String} with the characters of this sequence.
+     *
+     * @return  a string consisting of exactly this sequence of characters.
+     */
+    public String toString() {
+        final byte[] value = this.value;
+        if (value.length == 0)
+            return "";
+        char[] chars = new char[value.length];
+        for (int i = 0; i < value.length; i++)
+            chars[i] = (char) (value[i] & 0xFF);
+        return new String(chars, true);
+    }
+
+    /**
+     * Writes the object using a serialization proxy, so that a
+     * {@code CompactString} is only ever created through its factory
+     * methods, with a copy of the serialized bytes.
+     * @serialData
+     * <pre>
+     *  byte[] value;  // the characters, one byte each
+     * </pre>
+     *
+     * @return the instance of {@code Ser}, not null
+     */
+    private Object writeReplace() {
+        return new Ser(value);
+    }
+
+    /**
+     * Defend against malicious streams.
+     *
+     * @param s the stream to read
+     * @throws java.io.InvalidObjectException always
+     */
+    private void readObject(java.io.ObjectInputStream s)
+        throws java.io.InvalidObjectException {
+        throw new java.io.InvalidObjectException(
+            "Deserialization via serialization delegate");
+    }
+
+    /**
+     * The serialization proxy for {@code CompactString}.
+     */
+    private static final class Ser implements java.io.Serializable {
+
+        private static final long serialVersionUID = -6373413478206536916L;
+
+        /** The characters, one byte each. */
+        private final byte[] value;
+
+        Ser(byte[] value) {
+            this.value = value;
+        }
+
+        /**
+         * Returns a {@code CompactString} with a copy of the serialized
+         * characters.
+         *
+         * @return  the {@code CompactString}, not null
+         * @throws  java.io.InvalidObjectException if the characters are
+         *          missing
+         */
+        private Object readResolve() throws java.io.ObjectStreamException {
+            if (value == null)
+                throw new java.io.InvalidObjectException("null value");
+            return valueOf(value, 0, value.length);
+        }
+    }
+}
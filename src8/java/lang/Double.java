@@ -25,7 +25,6 @@
 
 package java.lang;
 
-import sun.misc.FloatingDecimal;
 import sun.misc.FpUtils;
 import sun.misc.DoubleConsts;
 
@@ -205,7 +204,8 @@ public final class Double extends Number implements Comparable<Double> {
      * @return a string representation of the argument.
      */
     public static String toString(double d) {
-        return FloatingDecimal.toJavaFormatString(d);
+        char[] buf = new char[ShortestDecimal.MAX_DOUBLE_CHARS];
+        return new String(buf, 0, ShortestDecimal.putDouble(d, buf, 0));
     }
 
     /**
@@ -539,7 +539,40 @@ public final class Double extends Number implements Comparable<Double> {
      * @since 1.2
      */
     public static double parseDouble(String s) throws NumberFormatException {
-        return FloatingDecimal.parseDouble(s);
+        return FloatingDecimalParser.parseDouble(s, 0, s.length());
+    }
+
+    /**
+     * Returns a new {@code double} initialized to the value represented by
+     * the characters of the specified {@code CharSequence} from
+     * {@code beginIndex}, inclusive, to {@code endIndex}, exclusive, as if
+     * those characters were passed to {@link #parseDouble(String)}.
+     *
+     * <p>Decimal input with at most 19 significant digits, such as the
+     * fields of a delimited text file, is converted without creating a
+     * substring or any other object.
+     *
+     * @param  s   the {@code CharSequence} containing the subsequence to
+     *             be parsed.
+     * @param  beginIndex the beginning index, inclusive.
+     * @param  endIndex   the ending index, exclusive.
+     * @return the {@code double} value represented by the subsequence.
+     * @throws NullPointerException  if {@code s} is null
+     * @throws IndexOutOfBoundsException if {@code beginIndex} is
+     *         negative, or if {@code beginIndex} is greater than
+     *         {@code endIndex} or if {@code endIndex} is greater than
+     *         {@code s.length()}.
+     * @throws NumberFormatException if the subsequence does not contain
+     *         a parsable {@code double}.
+     * @see    java.lang.Double#parseDouble(String)
+     * @since 1.8
+     */
+    public static double parseDouble(CharSequence s, int beginIndex,
+                                     int endIndex) {
+        if (beginIndex < 0 || beginIndex > endIndex || endIndex > s.length()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return FloatingDecimalParser.parseDouble(s, beginIndex, endIndex);
     }
 
     /**
@@ -123,4 +123,23 @@ public class Exception extends Throwable {
                         boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
     }
+
+    /**
+     * Constructs a new exception with the specified detail message and
+     * cause whose stack trace is limited to the given number of frames.
+     *
+     * @param  message the detail message.
+     * @param cause the cause.  (A {@code null} value is permitted,
+     * and indicates that the cause is nonexistent or unknown.)
+     * @param maxStackTraceDepth the maximum number of stack frames to
+     *                           report
+     * @throws IllegalArgumentException if {@code maxStackTraceDepth} is
+     *         not positive
+     * @see Throwable#Throwable(String, Throwable, int)
+     * @since 1.8
+     */
+    protected Exception(String message, Throwable cause,
+                        int maxStackTraceDepth) {
+        super(message, cause, maxStackTraceDepth);
+    }
 }
@@ -25,7 +25,6 @@
 
 package java.lang;
 
-import sun.misc.FloatingDecimal;
 import sun.misc.FloatConsts;
 import sun.misc.DoubleConsts;
 
@@ -207,7 +206,8 @@ public final class Float extends Number implements Comparable<Float> {
      * @return a string representation of the argument.
      */
     public static String toString(float f) {
-        return FloatingDecimal.toJavaFormatString(f);
+        char[] buf = new char[ShortestDecimal.MAX_FLOAT_CHARS];
+        return new String(buf, 0, ShortestDecimal.putFloat(f, buf, 0));
     }
 
     /**
@@ -452,7 +452,7 @@ public final class Float extends Number implements Comparable<Float> {
      * @since 1.2
      */
     public static float parseFloat(String s) throws NumberFormatException {
-        return FloatingDecimal.parseFloat(s);
+        return FloatingDecimalParser.parseFloat(s, 0, s.length());
     }
 
     /**
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.lang;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+import sun.misc.Cleaner;
+
+/**
+ * A thread-local variable whose values are kept in an array indexed by
+ * the variable instead of in a hash table.
+ *
+ * <p>Each {@code IndexedThreadLocal} is given a small integer index when it
+ * is created.  A thread stores its values for all indexed thread-locals in
+ * a single array attached to the thread, so {@link #get} and {@link #set}
+ * are one array access plus a check that the slot belongs to this variable,
+ * with no hashing, probing or expunging of stale entries.  The array grows
+ * to cover the largest index used by the thread and is released when the
+ * thread terminates.
+ *
+ * <p>Apart from performance, an {@code IndexedThreadLocal} behaves like a
+ * {@link ThreadLocal}, including {@link #initialValue} and {@link #remove}.
+ * It is best suited to variables held in static fields or other long-lived
+ * objects.  The index of a variable that is garbage collected is reused by
+ * variables created later, but the values it held in a thread remain
+ * reachable from that thread until the slot is reused in that thread or the
+ * thread terminates.  Values are not inherited by child threads.
+ *
+ * @param <T> the type of the thread-local's value
+ *
+ * @see     ThreadLocal
+ * @since   1.8
+ */
+public class IndexedThreadLocal<T> extends ThreadLocal<T> {
+
+    /**
+     * The slot of this variable: its key is at {@code 2 * index} and its
+     * value at {@code 2 * index + 1} of {@code Thread.indexedThreadLocals}.
+     */
+    private final int index;
+
+    /**
+     * Identifies the slots written by this variable, so that values left
+     * behind by a collected variable with the same index are ignored.  It
+     * is a separate object so that threads do not keep the variable itself
+     * reachable.
+     */
+    private final Object key = new Object();
+
+    /**
+     * Creates an indexed thread-local variable.
+     * @see #withInitial(java.util.function.Supplier)
+     */
+    public IndexedThreadLocal() {
+        index = acquireIndex();
+        Cleaner.create(this, new IndexReleaser(index));
+    }
+
+    /**
+     * Creates an indexed thread-local variable.  The initial value of the
+     * variable is determined by invoking the {@code get} method on the
+     * {@code Supplier}.
+     *
+     * @param <S> the type of the thread local's value
+     * @param supplier the supplier to be used to determine the initial value
+     * @return a new indexed thread-local variable
+     * @throws NullPointerException if the specified supplier is null
+     */
+    public static <S> IndexedThreadLocal<S> withInitial(Supplier<? extends S> supplier) {
+        Objects.requireNonNull(supplier);
+        return new IndexedThreadLocal<S>() {
+            @Override
+            protected S initialValue() {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * Returns the value in the current thread's copy of this
+     * thread-local variable.  If the variable has no value for the
+     * current thread, it is first initialized to the value returned
+     * by an invocation of the {@link #initialValue} method.
+     *
+     * @return the current thread's value of this thread-local
+     */
+    @Override
+    public T get() {
+        Object[] slots = Thread.currentThread().indexedThreadLocals;
+        int i = index << 1;
+        if (slots != null && i < slots.length && slots[i] == key) {
+            @SuppressWarnings("unchecked")
+            T result = (T)slots[i + 1];
+            return result;
+        }
+        return setInitialValue();
+    }
+
+    /**
+     * Variant of set() to establish initialValue. Used instead
+     * of set() in case user has overridden the set() method.
+     *
+     * @return the initial value
+     */
+    private T setInitialValue() {
+        T value = initialValue();
+        store(Thread.currentThread(), value);
+        return value;
+    }
+
+    /**
+     * Sets the current thread's copy of this thread-local variable
+     * to the specified value.
+     *
+     * @param value the value to be stored in the current thread's copy of
+     *        this thread-local.
+     */
+    @Override
+    public void set(T value) {
+        store(Thread.currentThread(), value);
+    }
+
+    /**
+     * Removes the current thread's value for this thread-local
+     * variable.  If this thread-local variable is subsequently
+     * {@linkplain #get read} by the current thread, its value will be
+     * reinitialized by invoking its {@link #initialValue} method,
+     * unless its value is {@linkplain #set set} by the current thread
+     * in the interim.
+     */
+    @Override
+    public void remove() {
+        Object[] slots = Thread.currentThread().indexedThreadLocals;
+        int i = index << 1;
+        if (slots != null && i < slots.length && slots[i] == key) {
+            slots[i] = null;
+            slots[i + 1] = null;
+        }
+    }
+
+    private void store(Thread t, T value) {
+        Object[] slots = t.indexedThreadLocals;
+        int i = index << 1;
+        if (slots == null || i >= slots.length)
+            t.indexedThreadLocals = slots = grow(slots, i + 2);
+        slots[i] = key;
+        slots[i + 1] = value;
+    }
+
+    private static Object[] grow(Object[] slots, int minLength) {
+        int newLength = (slots == null) ? 16 : slots.length << 1;
+        while (newLength < minLength)
+            newLength <<= 1;
+        return (slots == null) ? new Object[newLength]
+                               : Arrays.copyOf(slots, newLength);
+    }
+
+    /* -- Index allocation -- */
+
+    /*
+     * freeIndexes is kept at least as long as nextIndex, so that it can
+     * hold every index ever handed out and releasing an index, which is
+     * done by the Cleaner, never has to allocate.
+     */
+    private static final Object indexLock = new Object();
+    private static int nextIndex;
+    private static int[] freeIndexes = new int[16];
+    private static int freeCount;
+
+    /**
+     * Returns the lowest released index, or a new one if there is none,
+     * so that threads' arrays stay as small as possible.
+     */
+    private static int acquireIndex() {
+        synchronized (indexLock) {
+            if (freeCount == 0) {
+                if (nextIndex == (Integer.MAX_VALUE >> 1))
+                    throw new IllegalStateException(
+                        "Too many indexed thread-local variables");
+                if (nextIndex == freeIndexes.length)
+                    freeIndexes = Arrays.copyOf(freeIndexes, nextIndex << 1);
+                return nextIndex++;
+            }
+            int lowest = 0;
+            for (int i = 1; i < freeCount; i++) {
+                if (freeIndexes[i] < freeIndexes[lowest])
+                    lowest = i;
+            }
+            int index = freeIndexes[lowest];
+            freeIndexes[lowest] = freeIndexes[--freeCount];
+            return index;
+        }
+    }
+
+    private static void releaseIndex(int index) {
+        synchronized (indexLock) {
+            freeIndexes[freeCount++] = index;
+        }
+    }
+
+    /**
+     * Returns the index of a variable to the free list once the variable
+     * has been collected.  It runs on the reference handler thread, so it
+     * must not allocate or throw.
+     */
+    private static final class IndexReleaser implements Runnable {
+        private final int index;
+
+        IndexReleaser(int index) {
+            this.index = index;
+        }
+
+        public void run() {
+            releaseIndex(index);
+        }
+    }
+}
@@ -64,4 +64,20 @@ class NumberFormatException extends IllegalArgumentException {
     static NumberFormatException forInputString(String s) {
         return new NumberFormatException("For input string: \"" + s + "\"");
     }
+
+    /**
+     * Factory method for making a <code>NumberFormatException</code>
+     * given the specified subsequence of the input which caused the error.
+     *
+     * @param   s   the input containing the subsequence
+     * @param   beginIndex   the beginning index of the subsequence, inclusive
+     * @param   endIndex     the ending index of the subsequence, exclusive
+     * @param   errorIndex   the index of the first offending character
+     */
+    static NumberFormatException forCharSequence(CharSequence s,
+            int beginIndex, int endIndex, int errorIndex) {
+        return new NumberFormatException("Error at index "
+                + (errorIndex - beginIndex) + " in: \""
+                + s.subSequence(beginIndex, endIndex) + "\"");
+    }
 }
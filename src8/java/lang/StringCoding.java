@@ -53,9 +53,9 @@ class StringCoding {
 
     /** The cached coders for each thread */
     private final static ThreadLocal<SoftReference<StringDecoder>> decoder =
-        new ThreadLocal<>();
+        new IndexedThreadLocal<>();
     private final static ThreadLocal<SoftReference<StringEncoder>> encoder =
-        new ThreadLocal<>();
+        new IndexedThreadLocal<>();
 
     private static boolean warnUnsupportedCharset = true;
 
@@ -31,11 +31,13 @@ import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
 import sun.nio.ch.Interruptible;
 import sun.reflect.CallerSensitive;
 import sun.reflect.Reflection;
@@ -187,6 +189,13 @@ class Thread implements Runnable {
      */
     ThreadLocal.ThreadLocalMap inheritableThreadLocals = null;
 
+    /*
+     * IndexedThreadLocal values pertaining to this thread, as key and value
+     * pairs indexed by variable. This array is maintained by the
+     * IndexedThreadLocal class.
+     */
+    Object[] indexedThreadLocals = null;
+
     /*
      * The requested stack size for this thread, or 0 if the creator did
      * not specify a stack size.  It is up to the VM to do whatever it
@@ -764,6 +773,7 @@ class Thread implements Runnable {
         /* Speed the release of some of these resources */
         threadLocals = null;
         inheritableThreadLocals = null;
+        indexedThreadLocals = null;
         inheritedAccessControlContext = null;
         blocker = null;
         uncaughtExceptionHandler = null;
@@ -1570,6 +1580,42 @@ class Thread implements Runnable {
         }
     }
 
+    /**
+     * Returns a sequential stream of the stack trace elements of this
+     * thread, in the same order as {@link #getStackTrace()}.
+     *
+     * <p>For the current thread the elements are created lazily as the
+     * stream is traversed, so a pipeline that only examines the top of
+     * the stack (for example, to find the first caller outside a given
+     * package) does not pay for creating elements for the whole stack.
+     * For any other thread the stack is sampled in full when this method
+     * is invoked.
+     *
+     * <p>If there is a security manager, and this thread is not
+     * the current thread, then the security manager's
+     * <tt>checkPermission</tt> method is called with a
+     * <tt>RuntimePermission("getStackTrace")</tt> permission
+     * to see if it's ok to get the stack trace.
+     *
+     * @return a stream of the stack trace elements of this thread
+     *
+     * @throws SecurityException
+     *        if a security manager exists and its
+     *        <tt>checkPermission</tt> method doesn't allow
+     *        getting the stack trace of thread.
+     * @see #getStackTrace
+     * @see Throwable#stackTraceStream()
+     *
+     * @since 1.8
+     */
+    public Stream<StackTraceElement> stackTraceStream() {
+        if (this != Thread.currentThread()) {
+            return Arrays.stream(getStackTrace());
+        } else {
+            return (new Exception()).stackTraceStream();
+        }
+    }
+
     /**
      * Returns a map of stack traces for all live threads.
      * The map keys are threads and each map value is an array of
@@ -26,6 +26,9 @@
 package java.lang;
 import  java.io.*;
 import  java.util.*;
+import  java.util.function.Consumer;
+import  java.util.stream.Stream;
+import  java.util.stream.StreamSupport;
 
 /**
  * The {@code Throwable} class is the superclass of all errors and
@@ -217,6 +220,12 @@ public class Throwable implements Serializable {
      */
     private StackTraceElement[] stackTrace = UNASSIGNED_STACK;
 
+    /**
+     * The maximum number of frames of the captured backtrace that are
+     * reported in the stack trace, or zero if there is no limit.
+     */
+    private transient int maxStackTraceDepth;
+
     // Setting this static field introduces an acceptable
     // initialization dependency on a few java.util classes.
     private static final List<Throwable> SUPPRESSED_SENTINEL =
@@ -375,6 +384,40 @@ public class Throwable implements Serializable {
             suppressedExceptions = null;
     }
 
+    /**
+     * Constructs a new throwable with the specified detail message and
+     * cause whose stack trace is limited to the given number of frames.
+     * Only the top {@code maxStackTraceDepth} frames of the stack are
+     * reported by {@link #getStackTrace}, {@link #stackTraceStream} and
+     * {@link #printStackTrace()}, so a throwable that is used for control
+     * flow, or whose origin is all that matters, does not pay for
+     * creating stack trace elements for the rest of the stack.  Deeper
+     * frames may still be recorded by the virtual machine when the stack
+     * trace is filled in.
+     *
+     * <p>Suppression is enabled and the stack trace is writable.  A stack
+     * trace set with {@link #setStackTrace} is not limited.
+     *
+     * @param  message the detail message.
+     * @param cause the cause.  (A {@code null} value is permitted,
+     * and indicates that the cause is nonexistent or unknown.)
+     * @param maxStackTraceDepth the maximum number of stack frames to
+     *                           report
+     * @throws IllegalArgumentException if {@code maxStackTraceDepth} is
+     *         not positive
+     * @since 1.8
+     */
+    protected Throwable(String message, Throwable cause,
+                        int maxStackTraceDepth) {
+        if (maxStackTraceDepth <= 0)
+            throw new IllegalArgumentException("maxStackTraceDepth: " +
+                                               maxStackTraceDepth);
+        this.maxStackTraceDepth = maxStackTraceDepth;
+        fillInStackTrace();
+        detailMessage = message;
+        this.cause = cause;
+    }
+
     /**
      * Returns the detail message string of this throwable.
      * 返回抛出异常的详细信息
@@ -836,7 +879,7 @@ public class Throwable implements Serializable {
         // backtrace if this is the first call to this method
         if (stackTrace == UNASSIGNED_STACK ||
             (stackTrace == null && backtrace != null) /* Out of protocol state */) {
-            int depth = getStackTraceDepth();
+            int depth = backtraceDepth();
             stackTrace = new StackTraceElement[depth];
             for (int i=0; i < depth; i++)
                 stackTrace[i] = getStackTraceElement(i);
@@ -846,6 +889,101 @@ public class Throwable implements Serializable {
         return stackTrace;
     }
 
+    /**
+     * Returns the number of frames of the backtrace that are reported,
+     * taking the depth limit, if any, into account.
+     */
+    private int backtraceDepth() {
+        int depth = getStackTraceDepth();
+        int max = maxStackTraceDepth;
+        return (max > 0 && depth > max) ? max : depth;
+    }
+
+    /**
+     * Returns a sequential stream of the elements of this throwable's
+     * stack trace, from the top of the stack downwards, as they would be
+     * returned by {@link #getStackTrace()}.
+     *
+     * <p>Unlike {@code getStackTrace}, this method does not create all of
+     * the stack trace elements up front.  Until the stack trace has been
+     * requested in full, each element is created from the recorded
+     * backtrace only when the stream reaches it, so a pipeline that
+     * examines only the top frames, such as
+     * <pre>{@code
+     *     t.stackTraceStream()
+     *      .filter(f -> !f.getClassName().startsWith("java."))
+     *      .findFirst()
+     * }</pre>
+     * or one that {@linkplain Stream#limit limits} the number of frames,
+     * does not pay for the rest of the stack.
+     *
+     * <p>The stream reflects the stack trace at the time this method is
+     * invoked; a later call to {@link #setStackTrace} or
+     * {@link #fillInStackTrace} does not affect it.
+     *
+     * @return a stream of the stack trace elements of this throwable
+     * @since 1.8
+     */
+    public Stream<StackTraceElement> stackTraceStream() {
+        Throwable snapshot;
+        int depth;
+        synchronized (this) {
+            if (!(stackTrace == UNASSIGNED_STACK ||
+                  (stackTrace == null && backtrace != null))) {
+                StackTraceElement[] trace = getOurStackTrace();
+                return Arrays.stream(trace);
+            }
+            // The natives read the backtrace of the throwable they are
+            // invoked on, so one that holds the current backtrace keeps
+            // reading it after fillInStackTrace replaces ours
+            depth = backtraceDepth();
+            snapshot = new Throwable(null, null, false, false);
+            snapshot.backtrace = backtrace;
+        }
+        return StreamSupport.stream(new BacktraceSpliterator(snapshot, depth),
+                                    false);
+    }
+
+    /**
+     * Spliterator creating stack trace elements on demand from a snapshot
+     * of the backtrace.
+     */
+    private static final class BacktraceSpliterator
+        implements Spliterator<StackTraceElement> {
+        private final Throwable snapshot;
+        private final int fence;
+        private int index;
+
+        BacktraceSpliterator(Throwable snapshot, int fence) {
+            this.snapshot = snapshot;
+            this.fence = fence;
+        }
+
+        public boolean tryAdvance(Consumer<? super StackTraceElement> action) {
+            if (action == null)
+                throw new NullPointerException();
+            if (index < fence) {
+                action.accept(snapshot.getStackTraceElement(index++));
+                return true;
+            }
+            return false;
+        }
+
+        public Spliterator<StackTraceElement> trySplit() {
+            return null;
+        }
+
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        public int characteristics() {
+            // The snapshot's backtrace is never replaced or modified
+            return Spliterator.ORDERED | Spliterator.SIZED |
+                Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+    }
+
     /**
      * Sets the stack trace elements that will be returned by
      * {@link #getStackTrace()} and printed by {@link #printStackTrace()}
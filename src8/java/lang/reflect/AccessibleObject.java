@@ -25,6 +25,7 @@
 
 package java.lang.reflect;
 
+import java.lang.invoke.MethodHandle;
 import java.security.AccessController;
 import sun.reflect.Reflection;
 import sun.reflect.ReflectionFactory;
@@ -306,4 +307,53 @@ public class AccessibleObject implements AnnotatedElement {
         // elements will occur before the volatile write.
         securityCheckCache = cache;         // write volatile
     }
+
+    // Shared MethodHandle logic.
+
+    // The direct method handles returned by Method, Constructor and Field
+    // are created once per root member from a copy with override set, and
+    // access is checked against the caller each time one is requested, as
+    // for a reflective call. A handle for a protected instance member
+    // requested from a subclass in another package would otherwise accept
+    // any receiver, so its receiver type is narrowed to the caller.
+
+    // Access check for a Method or Field handle request. There is no
+    // receiver to check yet, and checkAccess would then require the caller
+    // to be in the member's package. Like invoke and get, allow a protected
+    // instance member to a subclass as long as the declaring class is
+    // accessible; restrictReceiver makes the handle accept only receivers
+    // of the caller's class.
+    void checkHandleAccess(Class<?> caller, Class<?> clazz, int modifiers)
+        throws IllegalAccessException
+    {
+        if (caller != null && caller != clazz
+            && Modifier.isProtected(modifiers)
+            && !Modifier.isStatic(modifiers)
+            && clazz.isAssignableFrom(caller)) {
+            Reflection.ensureMemberAccess(caller, clazz, null,
+                (modifiers & ~Modifier.PROTECTED) | Modifier.PUBLIC);
+        } else {
+            checkAccess(caller, clazz, null, modifiers);
+        }
+    }
+    static MethodHandle restrictReceiver(MethodHandle mh, Class<?> caller,
+                                         Class<?> clazz, int modifiers) {
+        if (caller != null && caller != clazz
+            && Modifier.isProtected(modifiers)
+            && !Modifier.isStatic(modifiers)
+            && clazz.isAssignableFrom(caller)
+            && !isSameClassPackage(caller, clazz)) {
+            return mh.asType(mh.type().changeParameterType(0, caller));
+        }
+        return mh;
+    }
+
+    private static boolean isSameClassPackage(Class<?> c1, Class<?> c2) {
+        if (c1.getClassLoader() != c2.getClassLoader())
+            return false;
+        String n1 = c1.getName();
+        String n2 = c2.getName();
+        int i = n1.lastIndexOf('.');
+        return i == n2.lastIndexOf('.') && n1.regionMatches(0, n2, 0, i + 1);
+    }
 }
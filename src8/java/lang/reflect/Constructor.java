@@ -35,6 +35,8 @@ import sun.reflect.generics.factory.CoreReflectionFactory;
 import sun.reflect.generics.factory.GenericsFactory;
 import sun.reflect.generics.scope.ConstructorScope;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.annotation.AnnotationFormatError;
 
 /**
@@ -100,6 +102,9 @@ public final class Constructor<T> extends Executable {
     // If this branching structure would ever contain cycles, deadlocks can
     // occur in annotation code.
     private Constructor<T>      root;
+    // Direct method handle for the constructor, shared through the root in
+    // the same way as the ConstructorAccessor.
+    private volatile MethodHandle methodHandle;
 
     /**
      * Used by Excecutable for annotation sharing.
@@ -426,6 +431,79 @@ public final class Constructor<T> extends Executable {
         return inst;
     }
 
+    /**
+     * Returns a method handle that creates and initializes a new instance
+     * of the declaring class with the underlying constructor.
+     *
+     * <p>The type of the handle is the parameter types of this
+     * constructor and the declaring class as return type.  Invoking it
+     * with {@link MethodHandle#invokeExact invokeExact} passes the
+     * arguments without boxing them or collecting them into an array, and
+     * an exception thrown by the constructor is propagated as is rather
+     * than wrapped in an {@code InvocationTargetException}.
+     *
+     * <p>Access is checked when the handle is requested, exactly as by
+     * {@link #newInstance}.  The handle itself performs no access checks,
+     * so it must not be shared with code that should not have access to
+     * the constructor.  The handle is created once for the underlying
+     * constructor and shared by all {@code Constructor} objects reflecting
+     * it.
+     *
+     * @return a direct method handle for the underlying constructor
+     * @exception IllegalAccessException    if this {@code Constructor} object
+     *              is enforcing Java language access control and the underlying
+     *              constructor is inaccessible.
+     * @exception IllegalArgumentException  if the declaring class is an
+     *              enum type.
+     * @exception InstantiationException    if the class that declares the
+     *              underlying constructor represents an abstract class.
+     * @see java.lang.invoke.MethodHandles.Lookup#unreflectConstructor(Constructor)
+     * @since 1.8
+     */
+    @CallerSensitive
+    public MethodHandle toMethodHandle()
+        throws IllegalAccessException, InstantiationException
+    {
+        if (!override) {
+            if (!Reflection.quickCheckMemberAccess(clazz, modifiers)) {
+                Class<?> caller = Reflection.getCallerClass();
+                // No receiver is involved, so this is the newInstance check
+                // unchanged: a protected constructor is not accessible to
+                // subclasses in other packages, and needs no restriction.
+                checkAccess(caller, clazz, null, modifiers);
+            }
+        }
+        if ((clazz.getModifiers() & Modifier.ENUM) != 0)
+            throw new IllegalArgumentException("Cannot reflectively create enum objects");
+        if (Modifier.isAbstract(clazz.getModifiers()))
+            throw new InstantiationException(clazz.getName());
+        MethodHandle mh = methodHandle;                 // read volatile
+        if (mh == null) {
+            mh = acquireMethodHandle();
+        }
+        return mh;
+    }
+
+    // Like acquireConstructorAccessor, there is no synchronization:
+    // creating more than one equivalent handle is harmless.
+    private MethodHandle acquireMethodHandle() {
+        MethodHandle tmp = (root != null) ? root.methodHandle : null;
+        if (tmp == null) {
+            Constructor<T> c = (root != null) ? root.copy() : copy();
+            c.override = true;
+            try {
+                tmp = MethodHandles.lookup().unreflectConstructor(c);
+            } catch (IllegalAccessException e) {
+                throw new InternalError(e);
+            }
+        }
+        methodHandle = tmp;
+        if (root != null) {
+            root.methodHandle = tmp;
+        }
+        return tmp;
+    }
+
     /**
      * {@inheritDoc}
      * @since 1.5
@@ -33,6 +33,8 @@ import sun.reflect.generics.factory.CoreReflectionFactory;
 import sun.reflect.generics.factory.GenericsFactory;
 import sun.reflect.generics.scope.ClassScope;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.Map;
 import java.util.Objects;
 import sun.reflect.annotation.AnnotationParser;
@@ -85,6 +87,10 @@ class Field extends AccessibleObject implements Member {
     // If this branching structure would ever contain cycles, deadlocks can
     // occur in annotation code.
     private Field               root;
+    // Direct getter and setter method handles for the field, shared
+    // through the root in the same way as the FieldAccessors.
+    private volatile MethodHandle getterHandle;
+    private volatile MethodHandle setterHandle;
 
     // Generics infrastructure
 
@@ -1060,6 +1066,112 @@ class Field extends AccessibleObject implements Member {
         getFieldAccessor(obj).setDouble(obj, d);
     }
 
+    /**
+     * Returns a method handle that reads the underlying field directly.
+     *
+     * <p>The type of the handle has the type of the field as return type
+     * and, for an instance field, the declaring class as its single
+     * parameter.  Invoking it with {@link MethodHandle#invokeExact
+     * invokeExact} returns a primitive value without boxing it.
+     *
+     * <p>Access is checked when the handle is requested, exactly as by
+     * {@link #get}.  The handle itself performs no access checks, so it
+     * must not be shared with code that should not have access to the
+     * field.  The handle is created once for the underlying field and
+     * shared by all {@code Field} objects reflecting it.
+     *
+     * @return a direct method handle reading the underlying field
+     * @exception IllegalAccessException    if this {@code Field} object
+     *              is enforcing Java language access control and the underlying
+     *              field is inaccessible.
+     * @see java.lang.invoke.MethodHandles.Lookup#unreflectGetter(Field)
+     * @since 1.8
+     */
+    @CallerSensitive
+    public MethodHandle toGetterHandle() throws IllegalAccessException {
+        Class<?> caller = null;
+        if (!override) {
+            if (!Reflection.quickCheckMemberAccess(clazz, modifiers)) {
+                caller = Reflection.getCallerClass();
+                checkHandleAccess(caller, clazz, modifiers);
+            }
+        }
+        MethodHandle mh = getterHandle;                 // read volatile
+        if (mh == null) {
+            mh = acquireHandle(false);
+        }
+        return restrictReceiver(mh, caller, clazz, modifiers);
+    }
+
+    /**
+     * Returns a method handle that writes the underlying field directly.
+     *
+     * <p>The type of the handle has a {@code void} return type and, as
+     * parameters, the declaring class for an instance field followed by
+     * the type of the field.  Invoking it with {@link
+     * MethodHandle#invokeExact invokeExact} stores a primitive value
+     * without boxing it.
+     *
+     * <p>Access is checked when the handle is requested, exactly as by
+     * {@link #set}, including the rules for final fields.  The handle
+     * itself performs no access checks, so it must not be shared with
+     * code that should not have access to the field.  The handle is
+     * created once for the underlying field and shared by all
+     * {@code Field} objects reflecting it.
+     *
+     * @return a direct method handle writing the underlying field
+     * @exception IllegalAccessException    if this {@code Field} object
+     *              is enforcing Java language access control and the underlying
+     *              field is either inaccessible or final; or if the
+     *              underlying field is both static and final.
+     * @see java.lang.invoke.MethodHandles.Lookup#unreflectSetter(Field)
+     * @since 1.8
+     */
+    @CallerSensitive
+    public MethodHandle toSetterHandle() throws IllegalAccessException {
+        Class<?> caller = null;
+        if (!override) {
+            if (!Reflection.quickCheckMemberAccess(clazz, modifiers)) {
+                caller = Reflection.getCallerClass();
+                checkHandleAccess(caller, clazz, modifiers);
+            }
+        }
+        if (Modifier.isFinal(modifiers)
+            && (!override || Modifier.isStatic(modifiers))) {
+            throw new IllegalAccessException("Can not set final " +
+                type.getName() + " field " + clazz.getName() + "." + name);
+        }
+        MethodHandle mh = setterHandle;                 // read volatile
+        if (mh == null) {
+            mh = acquireHandle(true);
+        }
+        return restrictReceiver(mh, caller, clazz, modifiers);
+    }
+
+    // Like acquireFieldAccessor, there is no synchronization: creating
+    // more than one equivalent handle is harmless.
+    private MethodHandle acquireHandle(boolean setter) {
+        MethodHandle tmp = null;
+        if (root != null) tmp = setter ? root.setterHandle : root.getterHandle;
+        if (tmp == null) {
+            Field f = (root != null) ? root.copy() : copy();
+            f.override = true;
+            try {
+                tmp = setter ? MethodHandles.lookup().unreflectSetter(f)
+                             : MethodHandles.lookup().unreflectGetter(f);
+            } catch (IllegalAccessException e) {
+                throw new InternalError(e);
+            }
+        }
+        for (Field f = this; f != null; f = f.root) {
+            if (setter)
+                f.setterHandle = tmp;
+            else
+                f.getterHandle = tmp;
+        }
+        return tmp;
+    }
+
     // security check is done before calling this method
     private FieldAccessor getFieldAccessor(Object obj)
         throws IllegalAccessException
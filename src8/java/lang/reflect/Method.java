@@ -35,6 +35,8 @@ import sun.reflect.generics.scope.MethodScope;
 import sun.reflect.annotation.AnnotationType;
 import sun.reflect.annotation.AnnotationParser;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.annotation.AnnotationFormatError;
 import java.nio.ByteBuffer;
 
@@ -83,6 +85,9 @@ public final class Method extends Executable {
     // If this branching structure would ever contain cycles, deadlocks can
     // occur in annotation code.
     private Method              root;
+    // Direct method handle for the method, shared through the root in the
+    // same way as the MethodAccessor.
+    private volatile MethodHandle methodHandle;
 
     // Generics infrastructure
     private String getGenericSignature() {return signature;}
@@ -498,6 +503,84 @@ public final class Method extends Executable {
         return ma.invoke(obj, args);
     }
 
+    /**
+     * Returns a method handle that invokes the underlying method directly.
+     *
+     * <p>The type of the handle is the parameter types of this method,
+     * preceded by the declaring class for an instance method, and the
+     * return type of this method.  Invoking it with
+     * {@link MethodHandle#invokeExact invokeExact} passes the arguments
+     * without boxing them or collecting them into an array, and an
+     * exception thrown by the method is propagated as is rather than
+     * wrapped in an {@code InvocationTargetException}.  Instance methods
+     * are dispatched virtually, as by {@link #invoke}.
+     *
+     * <p>Access is checked when the handle is requested, exactly as by
+     * {@link #invoke}: unless this method is accessible to the caller or
+     * {@linkplain #setAccessible(boolean) accessibility checks are
+     * suppressed}, an {@code IllegalAccessException} is thrown.  The handle
+     * itself performs no access checks, so it must not be shared with
+     * code that should not have access to the method.  The handle is
+     * created once for the underlying method and shared by all
+     * {@code Method} objects reflecting it.
+     *
+     * @return a direct method handle for the underlying method
+     * @exception IllegalAccessException if this {@code Method} object
+     *              is enforcing Java language access control and the
+     *              underlying method is inaccessible.
+     * @exception UnsupportedOperationException if the underlying method is
+     *              caller-sensitive, that is, it behaves differently
+     *              depending on the class calling it; use
+     *              {@link java.lang.invoke.MethodHandles.Lookup#unreflect(Method)
+     *              MethodHandles.lookup().unreflect(m)} in the calling class
+     *              instead.
+     * @see java.lang.invoke.MethodHandles.Lookup#unreflect(Method)
+     * @since 1.8
+     */
+    @CallerSensitive
+    public MethodHandle toMethodHandle() throws IllegalAccessException {
+        Class<?> caller = null;
+        if (!override) {
+            if (!Reflection.quickCheckMemberAccess(clazz, modifiers)) {
+                caller = Reflection.getCallerClass();
+                checkHandleAccess(caller, clazz, modifiers);
+            }
+        }
+        MethodHandle mh = methodHandle;                 // read volatile
+        if (mh == null) {
+            mh = acquireMethodHandle();
+        }
+        return restrictReceiver(mh, caller, clazz, modifiers);
+    }
+
+    // Like acquireMethodAccessor, there is no synchronization: creating
+    // more than one equivalent handle is harmless.
+    //
+    // A handle made here would bind a caller-sensitive method to Method
+    // itself, a system class, for every caller that obtains it; such
+    // methods are refused and never get a cached handle.
+    private MethodHandle acquireMethodHandle() {
+        MethodHandle tmp = (root != null) ? root.methodHandle : null;
+        if (tmp == null) {
+            if (Reflection.isCallerSensitive(this)) {
+                throw new UnsupportedOperationException(
+                    "Caller-sensitive method: " + this);
+            }
+            Method m = (root != null) ? root.copy() : copy();
+            m.override = true;
+            try {
+                tmp = MethodHandles.lookup().unreflect(m);
+            } catch (IllegalAccessException e) {
+                throw new InternalError(e);
+            }
+        }
+        methodHandle = tmp;
+        if (root != null) {
+            root.methodHandle = tmp;
+        }
+        return tmp;
+    }
+
     /**
      * Returns {@code true} if this method is a bridge
      * method; returns {@code false} otherwise.
@@ -25,6 +25,8 @@
 
 package java.lang.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -256,6 +258,34 @@ public class Proxy implements java.io.Serializable {
     private static final WeakCache<ClassLoader, Class<?>[], Class<?>>
         proxyClassCache = new WeakCache<>(new KeyFactory(), new ProxyClassFactory());
 
+    /**
+     * the constructors of proxy classes as method handles of type
+     * (InvocationHandler)Object, so that creating a proxy instance needs
+     * neither a reflective lookup nor a reflective call
+     */
+    private static final ClassValue<MethodHandle> proxyConstructors =
+        new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> cl) {
+                try {
+                    final Constructor<?> cons = cl.getConstructor(constructorParams);
+                    if (!Modifier.isPublic(cl.getModifiers())) {
+                        AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                            public Void run() {
+                                cons.setAccessible(true);
+                                return null;
+                            }
+                        });
+                    }
+                    return cons.toMethodHandle().asType(
+                        MethodType.methodType(Object.class, InvocationHandler.class));
+                } catch (IllegalAccessException|InstantiationException|
+                         NoSuchMethodException e) {
+                    throw new InternalError(e.toString(), e);
+                }
+            }
+        };
+
     /**
      * the invocation handler for this proxy instance.
      * @serial
@@ -786,28 +816,11 @@ public class Proxy implements java.io.Serializable {
                 checkNewProxyPermission(Reflection.getCallerClass(), cl);
             }
 
-            final Constructor<?> cons = cl.getConstructor(constructorParams);
-            final InvocationHandler ih = h;
-            if (!Modifier.isPublic(cl.getModifiers())) {
-                AccessController.doPrivileged(new PrivilegedAction<Void>() {
-                    public Void run() {
-                        cons.setAccessible(true);
-                        return null;
-                    }
-                });
-            }
-            return cons.newInstance(new Object[]{h});
-        } catch (IllegalAccessException|InstantiationException e) {
-            throw new InternalError(e.toString(), e);
-        } catch (InvocationTargetException e) {
-            Throwable t = e.getCause();
-            if (t instanceof RuntimeException) {
-                throw (RuntimeException) t;
-            } else {
-                throw new InternalError(t.toString(), t);
-            }
-        } catch (NoSuchMethodException e) {
-            throw new InternalError(e.toString(), e);
+            return (Object) proxyConstructors.get(cl).invokeExact(h);
+        } catch (RuntimeException|Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InternalError(t.toString(), t);
         }
     }
 
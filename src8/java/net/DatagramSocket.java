@@ -817,6 +817,129 @@ class DatagramSocket implements java.io.Closeable {
         }
     }
 
+    /**
+     * Sends a batch of datagram packets from this socket. Each packet is
+     * sent as if by the {@link #send(DatagramPacket) send} method, and is
+     * subject to the same checks. Where the platform supports it the
+     * packets are sent with a single system call.
+     *
+     * <p> If a security manager is installed, if this socket has an
+     * associated channel, or if this socket is an instance of a subclass,
+     * then the packets are sent individually by invoking {@code send} for
+     * each in turn. Otherwise all of the packets are checked before any is
+     * sent, and if a check fails no packet is sent. The packets must not be
+     * modified by another thread while this method is in progress.
+     *
+     * @param      packets   the packets to be sent.
+     * @return     the number of packets sent, which is
+     *             {@code packets.length} unless an exception is thrown.
+     *
+     * @exception  IOException  if an I/O error occurs.
+     * @exception  SecurityException  if a security manager exists and its
+     *             {@code checkMulticast} or {@code checkConnect}
+     *             method doesn't allow the send of one of the packets.
+     * @exception  PortUnreachableException may be thrown if the socket is connected
+     *             to a currently unreachable destination. Note, there is no
+     *             guarantee that the exception will be thrown.
+     * @exception  java.nio.channels.IllegalBlockingModeException
+     *             if this socket has an associated channel,
+     *             and the channel is in non-blocking mode.
+     * @exception  IllegalArgumentException if the socket is connected,
+     *             and connected address and packet address differ.
+     *
+     * @see        #send(DatagramPacket)
+     * @since 1.8
+     */
+    public int send(DatagramPacket[] packets) throws IOException {
+        if (packets.length == 0)
+            return 0;
+        if (isClosed())
+            throw new SocketException("Socket is closed");
+        if (System.getSecurityManager() != null || !isPlainSocket()) {
+            for (DatagramPacket p : packets)
+                send(p);
+            return packets.length;
+        }
+        for (DatagramPacket p : packets) {
+            checkAddress(p.getAddress(), "send");
+            if (connectState != ST_NOT_CONNECTED) {
+                InetAddress packetAddress = p.getAddress();
+                if (packetAddress == null) {
+                    p.setAddress(connectedAddress);
+                    p.setPort(connectedPort);
+                } else if ((!packetAddress.equals(connectedAddress)) ||
+                           p.getPort() != connectedPort) {
+                    throw new IllegalArgumentException("connected address " +
+                                                       "and packet address" +
+                                                       " differ");
+                }
+            }
+        }
+        if (!isBound())
+            bind(new InetSocketAddress(0));
+        return getImpl().send(packets, 0, packets.length);
+    }
+
+    /**
+     * Receives a batch of datagram packets from this socket. This method
+     * blocks until at least one datagram is received, as for the {@link
+     * #receive(DatagramPacket) receive} method, and then fills further
+     * packets only with datagrams that are immediately available. Where the
+     * platform supports it the datagrams are received with a single system
+     * call.
+     *
+     * <p> If a security manager is installed and the socket is not
+     * connected, if datagrams from sources other than the connected
+     * address may still be queued, if this socket has an associated
+     * channel, or if this socket is an instance of a subclass, then this
+     * method receives a single datagram by invoking the {@code receive}
+     * method.
+     *
+     * @param      packets   the packets into which to place the incoming
+     *                       data, in order.
+     * @return     the number of packets filled, at least one unless
+     *             {@code packets} is empty.
+     * @exception  IOException  if an I/O error occurs.
+     * @exception  SocketTimeoutException  if setSoTimeout was previously called
+     *                 and the timeout expired before any datagram was received.
+     * @exception  PortUnreachableException may be thrown if the socket is connected
+     *             to a currently unreachable destination. Note, there is no guarantee that the
+     *             exception will be thrown.
+     * @exception  java.nio.channels.IllegalBlockingModeException
+     *             if this socket has an associated channel,
+     *             and the channel is in non-blocking mode.
+     * @see        #receive(DatagramPacket)
+     * @since 1.8
+     */
+    public synchronized int receive(DatagramPacket[] packets)
+        throws IOException
+    {
+        if (packets.length == 0)
+            return 0;
+        if (!isPlainSocket()) {
+            receive(packets[0]);
+            return 1;
+        }
+        if (!isBound())
+            bind(new InetSocketAddress(0));
+        if ((connectState == ST_NOT_CONNECTED &&
+             System.getSecurityManager() != null) ||
+            connectState == ST_CONNECTED_NO_IMPL || explicitFilter) {
+            receive(packets[0]);
+            return 1;
+        }
+        return getImpl().receive(packets, 0, packets.length);
+    }
+
+    /**
+     * Returns true if the batch methods may use the impl directly: a
+     * subclass may override send or receive, and the socket adaptor of a
+     * DatagramChannel has a dummy impl and must check the blocking mode.
+     */
+    private boolean isPlainSocket() {
+        return getClass() == DatagramSocket.class && getChannel() == null;
+    }
+
     private boolean checkFiltering(DatagramPacket p) throws SocketException {
         bytesLeftToFilter -= p.getLength();
         if (bytesLeftToFilter <= 0 || getImpl().dataAvailable() <= 0) {
@@ -95,6 +95,31 @@ public abstract class DatagramSocketImpl implements SocketOptions {
      */
     protected abstract void send(DatagramPacket p) throws IOException;
 
+    /**
+     * Sends a batch of datagram packets. Each packet contains the data
+     * and the destination address to send it to. The default
+     * implementation invokes {@link #send(DatagramPacket)} for each packet
+     * in turn; an implementation may override it to send the batch with a
+     * single system call where the platform supports one.
+     * @param packets the packets to be sent.
+     * @param offset the index of the first packet to be sent.
+     * @param length the number of packets to be sent.
+     * @return the number of packets sent.
+     * @exception IOException if an I/O exception occurs while sending the
+     * datagram packets. Packets before the failing one have been sent.
+     * @exception  PortUnreachableException may be thrown if the socket is connected
+     * to a currently unreachable destination. Note, there is no guarantee that
+     * the exception will be thrown.
+     * @since 1.8
+     */
+    protected int send(DatagramPacket[] packets, int offset, int length)
+        throws IOException
+    {
+        for (int i = offset; i < offset + length; i++)
+            send(packets[i]);
+        return length;
+    }
+
     /**
      * Connects a datagram socket to a remote destination. This associates the remote
      * address with the local socket so that datagrams may only be sent to this destination
@@ -157,6 +182,38 @@ public abstract class DatagramSocketImpl implements SocketOptions {
      */
     protected abstract void receive(DatagramPacket p) throws IOException;
 
+    /**
+     * Receive a batch of datagram packets. Blocks until at least one packet
+     * has been received, then receives further packets only while they are
+     * immediately available. The default implementation invokes {@link
+     * #receive(DatagramPacket)} for the first packet and then for as long
+     * as the implementation reports that data is available; an
+     * implementation may override it to receive the batch with a single
+     * system call where the platform supports one.
+     * @param packets the packets into which to place the incoming data.
+     * @param offset the index of the first packet to be filled.
+     * @param length the maximum number of packets to be received; must be
+     * positive.
+     * @return the number of packets received, at least one.
+     * @exception IOException if an I/O exception occurs
+     * while receiving the datagram packets.
+     * @exception  PortUnreachableException may be thrown if the socket is connected
+     *       to a currently unreachable destination. Note, there is no guarantee that the
+     *       exception will be thrown.
+     * @since 1.8
+     */
+    protected int receive(DatagramPacket[] packets, int offset, int length)
+        throws IOException
+    {
+        receive(packets[offset]);
+        int n = 1;
+        while (n < length && dataAvailable() > 0) {
+            receive(packets[offset + n]);
+            n++;
+        }
+        return n;
+    }
+
     /**
      * Set the TTL (time-to-live) option.
      * @param ttl a byte specifying the TTL value
@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes.Name;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import sun.misc.URLClassPath;
+import sun.net.www.ParseUtil;
+import sun.security.action.GetPropertyAction;
+
+/**
+ * An index from package names to the JAR files on the search path of a
+ * URLClassLoader that contain entries in those packages.  Without it every
+ * class and resource lookup probes the JAR files in search order until one
+ * of them has the entry, which is expensive for long class paths and for
+ * names that are not found at all.  With it a lookup only visits the JAR
+ * files that contain the package, still in search order, so the result is
+ * the same.
+ *
+ * <p> The index only applies to a search path made up entirely of local
+ * JAR files that neither have a {@code Class-Path} manifest attribute nor
+ * a {@code META-INF/INDEX.LIST}, as both extend the search path in ways
+ * that only URLClassPath knows about.  Otherwise {@link #lookup} returns
+ * {@code null} and the caller falls back to the full search.
+ *
+ * <p> The index is disabled unless the sun.net.URLClassLoader.packageIndex
+ * property is set to {@code true} or the
+ * sun.net.URLClassLoader.packageIndexCache property names a file.  In the
+ * latter case the packages of each JAR file are also saved to that file,
+ * keyed by path, size and modification time, so that later runs do not
+ * have to list the JAR files again.  A package that is not in any of the
+ * lists read from that file is still looked for in the full search, in
+ * case a JAR file changed without its size or time changing.
+ */
+
+final class JarPackageIndex {
+
+    private static final boolean enabled;
+    private static final File cacheFile;
+
+    static {
+        String cache = AccessController.doPrivileged(
+            new GetPropertyAction("sun.net.URLClassLoader.packageIndexCache"));
+        String index = AccessController.doPrivileged(
+            new GetPropertyAction("sun.net.URLClassLoader.packageIndex"));
+        cacheFile = (cache != null && !cache.isEmpty()) ? new File(cache) : null;
+        enabled = cacheFile != null || Boolean.parseBoolean(index);
+    }
+
+    private static final int CACHE_MAGIC = 0x4A504931;      // "JPI1"
+
+    private static final URLClassPath[] NONE = new URLClassPath[0];
+
+    /* A JAR file on the search path and the packages it contains */
+    private static final class Jar {
+        final URL url;
+        final String path;
+        final long length;
+        final long lastModified;
+        final String[] packages;        // null if the JAR cannot be indexed
+        final boolean cached;           // packages read from the cache file
+        URLClassPath loader;            // guarded by the index
+
+        Jar(URL url, String path, long length, long lastModified,
+            String[] packages, boolean cached) {
+            this.url = url;
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.packages = packages;
+            this.cached = cached;
+        }
+    }
+
+    /* The index of the search path, never modified once published */
+    private static final class Index {
+        /* Package name -> class paths of the JAR files containing it */
+        final Map<String,URLClassPath[]> loaders;
+        /* Whether no package lists came from the cache file, so that a
+           package missing from the index is on none of the JAR files */
+        final boolean complete;
+
+        Index(Map<String,URLClassPath[]> loaders, boolean complete) {
+            this.loaders = loaders;
+            this.complete = complete;
+        }
+    }
+
+    private final URLStreamHandlerFactory factory;
+    private final AccessControlContext acc;
+
+    /* The search path, and the JAR files of it scanned so far by path */
+    private final List<URL> urls = new ArrayList<>();
+    private final Map<String,Jar> jars = new HashMap<>();
+
+    /* The index, or null until built or after the search path changes */
+    private volatile Index index;
+    private boolean disabled;
+    private boolean closed;
+
+    private JarPackageIndex(URL[] urls, URLStreamHandlerFactory factory,
+                            AccessControlContext acc) {
+        this.factory = factory;
+        this.acc = acc;
+        for (URL url : urls) {
+            if (url != null) {
+                this.urls.add(url);
+            }
+        }
+    }
+
+    /**
+     * Returns an index for the given search path, or {@code null} if the
+     * index is disabled.
+     */
+    static JarPackageIndex create(URL[] urls, URLStreamHandlerFactory factory,
+                                  AccessControlContext acc) {
+        return enabled ? new JarPackageIndex(urls, factory, acc) : null;
+    }
+
+    /**
+     * Returns the package part of a class or resource name, which is the
+     * key of the index.
+     */
+    private static String packageOf(String name) {
+        int i = name.lastIndexOf('/');
+        return (i > 0) ? name.substring(0, i) : "";
+    }
+
+    /**
+     * Returns class paths for the JAR files that may contain the named
+     * resource, in search order, or {@code null} if the index does not
+     * cover the search path and all of it has to be searched.  The
+     * returned array is empty if no JAR file contains the package.  It is
+     * shared by all lookups of the package and must not be modified.
+     */
+    URLClassPath[] lookup(String name) {
+        Index idx = index;
+        if (idx == null && (idx = build()) == null) {
+            return null;
+        }
+        URLClassPath[] loaders = idx.loaders.get(packageOf(name));
+        if (loaders == null) {
+            // The cache file is trusted to say which JAR files have a
+            // package, but not that none has: a JAR file replaced with one
+            // of the same size and time would be missed for good
+            return idx.complete ? NONE : null;
+        }
+        return loaders;
+    }
+
+    /**
+     * Appends a URL to the search path.  The index is rebuilt on the next
+     * lookup.
+     */
+    synchronized void addURL(URL url) {
+        if (url == null || closed || urls.contains(url)) {
+            return;
+        }
+        urls.add(url);
+        index = null;
+    }
+
+    /**
+     * Closes the class paths opened by this index.  Lookups made after
+     * this method returns fall back to the full search.
+     */
+    synchronized List<IOException> close() {
+        List<IOException> errors = new ArrayList<>();
+        if (!closed) {
+            closed = true;
+            index = null;
+            for (Jar jar : jars.values()) {
+                if (jar.loader != null) {
+                    errors.addAll(jar.loader.closeLoaders());
+                    jar.loader = null;
+                }
+            }
+        }
+        return errors;
+    }
+
+    private synchronized Index build() {
+        if (index != null || disabled || closed) {
+            return index;
+        }
+        try {
+            Map<String,Jar> cached = null;
+            boolean scanned = false;
+            for (URL url : urls) {
+                File file = fileOf(url);
+                if (file == null) {
+                    disabled = true;
+                    return null;
+                }
+                Jar jar = jars.get(file.getPath());
+                if (jar == null) {
+                    long length = file.length();
+                    long lastModified = file.lastModified();
+                    if (cacheFile != null && cached == null) {
+                        cached = readCache();
+                    }
+                    Jar c = (cached != null) ? cached.get(file.getPath()) : null;
+                    if (c != null && c.length == length
+                            && c.lastModified == lastModified) {
+                        jar = new Jar(url, c.path, length, lastModified,
+                                      c.packages, true);
+                    } else {
+                        jar = new Jar(url, file.getPath(), length, lastModified,
+                                      scan(file), false);
+                        scanned = true;
+                    }
+                    jars.put(jar.path, jar);
+                }
+                if (jar.packages == null) {
+                    disabled = true;
+                    return null;
+                }
+            }
+            if (scanned && cacheFile != null) {
+                writeCache(cached);
+            }
+        } catch (SecurityException se) {
+            disabled = true;
+            return null;
+        }
+
+        Map<String,URLClassPath[]> map = new HashMap<>();
+        boolean complete = true;
+        for (URL url : urls) {
+            Jar jar = jars.get(fileOf(url).getPath());
+            if (jar.loader == null) {
+                jar.loader = new URLClassPath(new URL[] { jar.url },
+                                              factory, acc);
+            }
+            complete &= !jar.cached;
+            for (String pkg : jar.packages) {
+                URLClassPath[] loaders = map.get(pkg);
+                if (loaders == null) {
+                    loaders = new URLClassPath[] { jar.loader };
+                } else if (loaders[loaders.length - 1] != jar.loader) {
+                    loaders = Arrays.copyOf(loaders, loaders.length + 1);
+                    loaders[loaders.length - 1] = jar.loader;
+                }
+                map.put(pkg, loaders);
+            }
+        }
+        index = new Index(map, complete);
+        return index;
+    }
+
+    /**
+     * Returns the local file that a URL on the search path refers to, or
+     * {@code null} if it is not a JAR file URL the index can handle.
+     */
+    private static File fileOf(URL url) {
+        String host = url.getHost();
+        String file = url.getFile();
+        if (!"file".equals(url.getProtocol())
+                || (host != null && !host.isEmpty()
+                    && !host.equalsIgnoreCase("localhost"))
+                || file.endsWith("/")) {
+            return null;
+        }
+        return new File(ParseUtil.decode(file));
+    }
+
+    /**
+     * Lists the packages of a JAR file, or returns {@code null} if the JAR
+     * file extends the search path.  A file that cannot be opened has no
+     * packages, as URLClassPath skips it as well.
+     */
+    private static String[] scan(File file) {
+        if (!file.isFile()) {
+            return new String[0];
+        }
+        try (JarFile jf = new JarFile(file, false)) {
+            Manifest man = jf.getManifest();
+            if (man != null
+                    && man.getMainAttributes().getValue(Name.CLASS_PATH) != null) {
+                return null;
+            }
+            if (jf.getEntry("META-INF/INDEX.LIST") != null) {
+                return null;
+            }
+            HashSet<String> set = new HashSet<>();
+            Enumeration<JarEntry> entries = jf.entries();
+            while (entries.hasMoreElements()) {
+                set.add(packageOf(entries.nextElement().getName()));
+            }
+            return set.toArray(new String[set.size()]);
+        } catch (IOException e) {
+            return new String[0];
+        }
+    }
+
+    /* -- Cache file -- */
+
+    /*
+     * The cache file holds the packages of every JAR file indexed by any
+     * class loader using it:
+     *
+     *   int magic, int count,
+     *   count * { UTF path, long length, long lastModified,
+     *             int n (-1 if not indexable), n * UTF package }
+     */
+
+    private static Map<String,Jar> readCache() {
+        Map<String,Jar> map = new HashMap<>();
+        if (!cacheFile.isFile()) {
+            return map;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(cacheFile)))) {
+            if (in.readInt() != CACHE_MAGIC) {
+                return map;
+            }
+            for (int count = in.readInt(); count > 0; count--) {
+                String path = in.readUTF();
+                long length = in.readLong();
+                long lastModified = in.readLong();
+                int n = in.readInt();
+                String[] pkgs = null;
+                if (n >= 0) {
+                    pkgs = new String[n];
+                    for (int i = 0; i < n; i++) {
+                        pkgs[i] = in.readUTF();
+                    }
+                }
+                map.put(path, new Jar(null, path, length, lastModified, pkgs,
+                                      true));
+            }
+        } catch (IOException e) {
+            // ignore a corrupt or truncated cache; it is rewritten
+            map.clear();
+        }
+        return map;
+    }
+
+    /*
+     * Writes the JAR files of this index, and those of other search paths
+     * found in the cache that still exist, to a temporary file that then
+     * replaces the cache file.
+     */
+    private void writeCache(Map<String,Jar> cached) {
+        Map<String,Jar> all = new HashMap<>();
+        if (cached != null) {
+            for (Jar jar : cached.values()) {
+                if (new File(jar.path).isFile()) {
+                    all.put(jar.path, jar);
+                }
+            }
+        }
+        all.putAll(jars);
+        File tmp = null;
+        try {
+            File dir = cacheFile.getAbsoluteFile().getParentFile();
+            tmp = File.createTempFile(cacheFile.getName(), ".tmp", dir);
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(CACHE_MAGIC);
+                out.writeInt(all.size());
+                for (Jar jar : all.values()) {
+                    out.writeUTF(jar.path);
+                    out.writeLong(jar.length);
+                    out.writeLong(jar.lastModified);
+                    if (jar.packages == null) {
+                        out.writeInt(-1);
+                    } else {
+                        out.writeInt(jar.packages.length);
+                        for (String pkg : jar.packages) {
+                            out.writeUTF(pkg);
+                        }
+                    }
+                }
+            }
+            if (!tmp.renameTo(cacheFile)) {
+                cacheFile.delete();
+                if (!tmp.renameTo(cacheFile)) {
+                    tmp.delete();
+                }
+            }
+        } catch (IOException e) {
+            // the cache is only an optimization
+            if (tmp != null) {
+                tmp.delete();
+            }
+        }
+    }
+}
@@ -28,7 +28,11 @@ package java.net;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.IllegalBlockingModeException;
 import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.security.PrivilegedAction;
@@ -853,6 +857,93 @@ class Socket implements java.io.Closeable {
         return null;
     }
 
+    /**
+     * Sends bytes from a region of a file to this socket.
+     *
+     * <p> An attempt is made to send up to {@code count} bytes starting at
+     * the given {@code position} in the file.  The bytes are transferred
+     * from the file to the socket without being copied into the Java heap:
+     * where the operating system supports it (for example with {@code
+     * sendfile} on Linux) the transfer is performed entirely by the
+     * operating system.  This method does not modify the file channel's
+     * position.  Bytes previously written to the socket's output stream
+     * are sent first, so this method may be mixed freely with writes to
+     * an unbuffered output stream obtained from {@link #getOutputStream()}.
+     *
+     * <p> If this socket has an associated channel then the bytes are
+     * transferred as if by invoking {@link FileChannel#transferTo
+     * src.transferTo} with the channel as the target; the channel must be
+     * in blocking mode.
+     *
+     * @param  src
+     *         The file channel to read from; must be open for reading
+     *
+     * @param  position
+     *         The position within the file at which the transfer is to
+     *         begin; must be non-negative
+     *
+     * @param  count
+     *         The maximum number of bytes to be sent; must be
+     *         non-negative
+     *
+     * @return  The number of bytes sent, which is less than {@code count}
+     *          only if the end of the file was reached
+     *
+     * @throws  IllegalArgumentException
+     *          If {@code position} or {@code count} is negative
+     *
+     * @throws  java.nio.channels.IllegalBlockingModeException
+     *          If this socket has an associated channel and the channel is
+     *          in non-blocking mode
+     *
+     * @throws  IOException
+     *          If an I/O error occurs, the socket is closed, the socket is
+     *          not connected, or the socket output has been shutdown
+     *
+     * @see     FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)
+     * @since 1.8
+     */
+    public long transferFrom(FileChannel src, long position, long count)
+        throws IOException
+    {
+        if (position < 0 || count < 0)
+            throw new IllegalArgumentException();
+        // Fail as getOutputStream does, whether or not there is a channel
+        if (isClosed())
+            throw new SocketException("Socket is closed");
+        if (!isConnected())
+            throw new SocketException("Socket is not connected");
+        if (isOutputShutdown())
+            throw new SocketException("Socket output is shutdown");
+        SocketChannel ch = getChannel();
+        if (ch != null) {
+            if (!ch.isBlocking())
+                throw new IllegalBlockingModeException();
+            long sent = 0;
+            while (sent < count) {
+                long n = src.transferTo(position + sent, count - sent, ch);
+                if (n <= 0)
+                    break;
+                sent += n;
+            }
+            return sent;
+        }
+        OutputStream os = getOutputStream();
+        if (os instanceof SocketOutputStream)
+            return ((SocketOutputStream)os).transferFrom(src, position, count);
+
+        // Socket implementation with its own streams; copy through a buffer
+        WritableByteChannel target = Channels.newChannel(os);
+        long sent = 0;
+        while (sent < count) {
+            long n = src.transferTo(position + sent, count - sent, target);
+            if (n <= 0)
+                break;
+            sent += n;
+        }
+        return sent;
+    }
+
     /**
      * Returns an input stream for this socket.
      *
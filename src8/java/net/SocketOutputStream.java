@@ -155,6 +155,59 @@ class SocketOutputStream extends FileOutputStream
         socketWrite(b, off, len);
     }
 
+    /**
+     * Channel over the socket's file descriptor, created on first use by
+     * transferFrom. The stream is its parent so that closing the channel,
+     * for example when the transferring thread is interrupted, closes the
+     * socket rather than just the descriptor.
+     */
+    private FileChannel transferTarget;
+
+    /**
+     * Sends bytes from the given region of a file directly to the socket,
+     * without copying them through the Java heap. Where the platform
+     * supports it the transfer is done by the operating system (for
+     * example with sendfile), otherwise the file is mapped and written.
+     * @param src the file channel to read from
+     * @param position the position in the file at which to start
+     * @param count the maximum number of bytes to send
+     * @return the number of bytes sent, less than count only if the end
+     * of the file was reached
+     * @exception IOException If an I/O error has occurred.
+     */
+    long transferFrom(FileChannel src, long position, long count)
+        throws IOException
+    {
+        if (impl.isClosedOrPending())
+            throw new SocketException("Socket is closed");
+        FileChannel target;
+        synchronized (this) {
+            target = transferTarget;
+            if (target == null) {
+                target = sun.nio.ch.FileChannelImpl.open(
+                    impl.getFileDescriptor(), null, false, true, this);
+                transferTarget = target;
+            }
+        }
+        long sent = 0;
+        impl.acquireFD();
+        try {
+            while (sent < count) {
+                long n = src.transferTo(position + sent, count - sent, target);
+                if (n <= 0)
+                    break;
+                sent += n;
+            }
+        } catch (IOException ioe) {
+            if (impl.isClosedOrPending())
+                throw new SocketException("Socket closed");
+            throw ioe;
+        } finally {
+            impl.releaseFD();
+        }
+        return sent;
+    }
+
     /**
      * Closes the stream.
      */
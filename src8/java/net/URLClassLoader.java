@@ -77,6 +77,9 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
     /* The context to be used when loading classes and resources */
     private final AccessControlContext acc;
 
+    /* Optional index of the packages in the JAR files of ucp, or null */
+    private final JarPackageIndex index;
+
     /**
      * Constructs a new URLClassLoader for the given URLs. The URLs will be
      * searched in the order specified for classes and resources after first
@@ -105,6 +108,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
         }
         this.acc = AccessController.getContext();
         ucp = new URLClassPath(urls, acc);
+        index = JarPackageIndex.create(urls, null, acc);
     }
 
     URLClassLoader(URL[] urls, ClassLoader parent,
@@ -117,6 +121,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
         }
         this.acc = acc;
         ucp = new URLClassPath(urls, acc);
+        index = JarPackageIndex.create(urls, null, acc);
     }
 
     /**
@@ -149,6 +154,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
         }
         this.acc = AccessController.getContext();
         ucp = new URLClassPath(urls, acc);
+        index = JarPackageIndex.create(urls, null, acc);
     }
 
     URLClassLoader(URL[] urls, AccessControlContext acc) {
@@ -160,6 +166,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
         }
         this.acc = acc;
         ucp = new URLClassPath(urls, acc);
+        index = JarPackageIndex.create(urls, null, acc);
     }
 
     /**
@@ -193,6 +200,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
         }
         acc = AccessController.getContext();
         ucp = new URLClassPath(urls, factory, acc);
+        index = JarPackageIndex.create(urls, factory, acc);
     }
 
     /* A map (used as a set) to keep track of closeable local resources
@@ -289,6 +297,9 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
             security.checkPermission(new RuntimePermission("closeClassLoader"));
         }
         List<IOException> errors = ucp.closeLoaders();
+        if (index != null) {
+            errors.addAll(index.close());
+        }
 
         // now close any remaining streams.
 
@@ -330,6 +341,9 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
      */
     protected void addURL(URL url) {
         ucp.addURL(url);
+        if (index != null) {
+            index.addURL(url);
+        }
     }
 
     /**
@@ -362,7 +376,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
                 new PrivilegedExceptionAction<Class<?>>() {
                     public Class<?> run() throws ClassNotFoundException {
                         String path = name.replace('.', '/').concat(".class");
-                        Resource res = ucp.getResource(path, false);
+                        Resource res = getResource0(path);
                         if (res != null) {
                             try {
                                 return defineClass(name, res);
@@ -383,6 +397,25 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
         return result;
     }
 
+    /*
+     * Finds the class file at the given path, consulting the package index
+     * if there is one so that only the JAR files that may contain the class
+     * are searched.
+     */
+    private Resource getResource0(String path) {
+        URLClassPath[] paths = (index != null) ? index.lookup(path) : null;
+        if (paths == null) {
+            return ucp.getResource(path, false);
+        }
+        for (URLClassPath p : paths) {
+            Resource res = p.getResource(path, false);
+            if (res != null) {
+                return res;
+            }
+        }
+        return null;
+    }
+
     /*
      * Retrieve the package using the specified package name.
      * If non-null, verify the package using the specified code
@@ -566,7 +599,18 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
         URL url = AccessController.doPrivileged(
             new PrivilegedAction<URL>() {
                 public URL run() {
-                    return ucp.findResource(name, true);
+                    URLClassPath[] paths =
+                        (index != null) ? index.lookup(name) : null;
+                    if (paths == null) {
+                        return ucp.findResource(name, true);
+                    }
+                    for (URLClassPath p : paths) {
+                        URL u = p.findResource(name, true);
+                        if (u != null) {
+                            return u;
+                        }
+                    }
+                    return null;
                 }
             }, acc);
 
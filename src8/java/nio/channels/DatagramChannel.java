@@ -463,6 +463,156 @@ public abstract class DatagramChannel
     public abstract int send(ByteBuffer src, SocketAddress target)
         throws IOException;
 
+    /**
+     * Receives a batch of datagrams via this channel.
+     *
+     * <p> This method receives up to {@code dsts.length} datagrams.  The
+     * <i>i</i>th datagram received is transferred into {@code dsts[i]}, as
+     * if by the {@link #receive(ByteBuffer) receive} method, and its source
+     * address is stored in {@code senders[i]}.  Elements of {@code senders}
+     * at and beyond the returned count are not modified.
+     *
+     * <p> If this channel is in blocking mode then this method blocks until
+     * at least one datagram has been received; otherwise it returns zero if
+     * no datagram is immediately available.  In either mode it then
+     * receives further datagrams only for as long as they are immediately
+     * available, and never blocks waiting for the remainder of the batch.
+     *
+     * <p> The security checks performed for each datagram are those of the
+     * {@link #receive(ByteBuffer) receive} method.
+     *
+     * <p> The implementation in this class invokes {@link
+     * #receive(ByteBuffer) receive} once for each datagram, and in blocking
+     * mode receives a single datagram.  Implementations are encouraged to
+     * override it to receive the batch with a single operating system
+     * request where the platform supports one (for example
+     * {@code recvmmsg} on Linux).  </p>
+     *
+     * @param  dsts
+     *         The buffers into which the datagrams are to be transferred
+     *
+     * @param  senders
+     *         The array in which to store the datagrams' source addresses;
+     *         must be at least as long as {@code dsts}
+     *
+     * @return  The number of datagrams received, possibly zero if this
+     *          channel is in non-blocking mode
+     *
+     * @throws  IllegalArgumentException
+     *          If {@code senders} is shorter than {@code dsts}
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the read operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the read operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  SecurityException
+     *          If a security manager has been installed
+     *          and it does not permit datagrams to be accepted
+     *          from the datagram's sender
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since 1.8
+     */
+    public int receive(ByteBuffer[] dsts, SocketAddress[] senders)
+        throws IOException
+    {
+        if (senders.length < dsts.length)
+            throw new IllegalArgumentException("senders.length < dsts.length");
+        int n = 0;
+        while (n < dsts.length) {
+            SocketAddress sa = receive(dsts[n]);
+            if (sa == null)
+                break;
+            senders[n++] = sa;
+            if (isBlocking())
+                break;
+        }
+        return n;
+    }
+
+    /**
+     * Sends a batch of datagrams via this channel.
+     *
+     * <p> This method sends the remaining bytes of {@code srcs[i]} as a
+     * single datagram to {@code targets[i]}, as if by the {@link
+     * #send(ByteBuffer,SocketAddress) send} method, for each <i>i</i> in
+     * turn.  If this channel is in non-blocking mode then it stops at the
+     * first datagram for which there is insufficient room in the underlying
+     * output buffer; that datagram, and those following it, are not sent.
+     *
+     * <p> The security checks performed for each datagram are those of the
+     * {@link #send(ByteBuffer,SocketAddress) send} method.
+     *
+     * <p> The implementation in this class invokes {@link
+     * #send(ByteBuffer,SocketAddress) send} once for each datagram.
+     * Implementations are encouraged to override it to send the batch with
+     * a single operating system request where the platform supports one
+     * (for example {@code sendmmsg} on Linux).  </p>
+     *
+     * @param  srcs
+     *         The buffers containing the datagrams to be sent
+     *
+     * @param  targets
+     *         The addresses to which the datagrams are to be sent;
+     *         must be at least as long as {@code srcs}
+     *
+     * @return  The number of datagrams sent, which will be
+     *          {@code srcs.length} unless this channel is in non-blocking
+     *          mode
+     *
+     * @throws  IllegalArgumentException
+     *          If {@code targets} is shorter than {@code srcs}
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the write operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the write operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  SecurityException
+     *          If a security manager has been installed
+     *          and it does not permit datagrams to be sent
+     *          to one of the given addresses
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since 1.8
+     */
+    public int send(ByteBuffer[] srcs, SocketAddress[] targets)
+        throws IOException
+    {
+        if (targets.length < srcs.length)
+            throw new IllegalArgumentException("targets.length < srcs.length");
+        int n = 0;
+        while (n < srcs.length) {
+            ByteBuffer src = srcs[n];
+            int rem = src.remaining();
+            if (send(src, targets[n]) == 0 && rem > 0)
+                break;
+            n++;
+        }
+        return n;
+    }
+
 
     // -- ByteChannel operations --
 
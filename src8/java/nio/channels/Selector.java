@@ -28,7 +28,10 @@ package java.nio.channels;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.channels.spi.SelectorProvider;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 
 /**
@@ -349,6 +352,139 @@ public abstract class Selector implements Closeable {
      */
     public abstract int select() throws IOException;
 
+    /**
+     * Selects and performs an action on the keys whose corresponding channels
+     * are ready for I/O operations.
+     *
+     * <p> This method performs a blocking <a href="#selop">selection
+     * operation</a>, as if by invoking {@link #select(long) select(timeout)},
+     * except that the selected keys are passed to the given action rather
+     * than left in the selected-key set.  The selected-key set is cleared
+     * before the operation, and a key that is selected is removed from it
+     * before the action is invoked with the key.  The action is invoked at
+     * most once for each key selected by the operation.
+     *
+     * <p> The action is invoked while synchronized on the selector and its
+     * selected-key set.  It must not attempt to select on this selector, and
+     * it should not block for long.  If the action closes the selector then
+     * {@link ClosedSelectorException} is thrown when the action returns.
+     *
+     * <p> The implementation in this class is built upon the selected-key
+     * set.  Selector implementations are encouraged to override it so that
+     * ready keys are delivered directly, without being added to and then
+     * iterated over in the selected-key set, so that a selection operation
+     * that selects no new keys does not allocate.  </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @param  timeout  If positive, block for up to {@code timeout}
+     *                  milliseconds, more or less, while waiting for a
+     *                  channel to become ready; if zero, block indefinitely;
+     *                  must not be negative
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @throws  IllegalArgumentException
+     *          If the value of the timeout argument is negative
+     *
+     * @since 1.8
+     */
+    public int select(Consumer<SelectionKey> action, long timeout)
+        throws IOException
+    {
+        if (timeout < 0)
+            throw new IllegalArgumentException("Negative timeout");
+        return doSelect(Objects.requireNonNull(action), timeout);
+    }
+
+    /**
+     * Selects and performs an action on the keys whose corresponding channels
+     * are ready for I/O operations.
+     *
+     * <p> This method performs a blocking <a href="#selop">selection
+     * operation</a>, as if by invoking {@link #select(Consumer,long)
+     * select(action, 0)}.  </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @since 1.8
+     */
+    public int select(Consumer<SelectionKey> action) throws IOException {
+        return select(action, 0);
+    }
+
+    /**
+     * Selects and performs an action on the keys whose corresponding channels
+     * are ready for I/O operations.
+     *
+     * <p> This method performs a non-blocking <a href="#selop">selection
+     * operation</a>, as if by invoking {@link #selectNow()}, and then passes
+     * each selected key to the action as described for {@link
+     * #select(Consumer,long) select(action, timeout)}.  </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @since 1.8
+     */
+    public int selectNow(Consumer<SelectionKey> action) throws IOException {
+        return doSelect(Objects.requireNonNull(action), -1);
+    }
+
+    /**
+     * Default implementation of select(Consumer) and selectNow(Consumer);
+     * a negative timeout means a non-blocking selection operation.
+     */
+    private int doSelect(Consumer<SelectionKey> action, long timeout)
+        throws IOException
+    {
+        synchronized (this) {
+            Set<SelectionKey> selectedKeys = selectedKeys();
+            synchronized (selectedKeys) {
+                selectedKeys.clear();
+                if (timeout < 0) {
+                    selectNow();
+                } else {
+                    select(timeout);
+                }
+                int n = 0;
+                if (!selectedKeys.isEmpty()) {
+                    Iterator<SelectionKey> i = selectedKeys.iterator();
+                    while (i.hasNext()) {
+                        SelectionKey k = i.next();
+                        i.remove();
+                        action.accept(k);
+                        n++;
+                        if (!isOpen())
+                            throw new ClosedSelectorException();
+                    }
+                }
+                return n;
+            }
+        }
+    }
+
     /**
      * Causes the first selection operation that has not yet returned to return
      * immediately.
@@ -26,6 +26,7 @@
 package java.nio.channels.spi;
 
 import java.nio.channels.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 
 /**
@@ -57,6 +58,42 @@ public abstract class AbstractSelectionKey
         valid = false;
     }
 
+    // Link and flag for the selector's queue of interest-set updates;
+    // updatePending is only changed through the updater below
+    AbstractSelectionKey nextUpdate;                    // package-private
+    private volatile int updatePending;
+
+    private static final AtomicIntegerFieldUpdater<AbstractSelectionKey>
+        updatePendingUpdater = AtomicIntegerFieldUpdater.newUpdater(
+            AbstractSelectionKey.class, "updatePending"
+        );
+
+    boolean markUpdatePending() {                       // package-private
+        return updatePendingUpdater.compareAndSet(this, 0, 1);
+    }
+
+    void clearUpdatePending() {                         // package-private
+        updatePending = 0;
+    }
+
+    /**
+     * Notifies this key's selector that the interest set of this key has
+     * changed.
+     *
+     * <p> A selection key implementation may invoke this method after
+     * storing a new interest set, instead of synchronizing with a selection
+     * operation that is in progress.  The key is added to the selector's
+     * queue of pending updates, without locking and without allocation,
+     * unless it is already queued; the selector applies the update the next
+     * time it invokes {@link AbstractSelector#processInterestOpsUpdates
+     * processInterestOpsUpdates}.  </p>
+     *
+     * @since 1.8
+     */
+    protected final void interestOpsChanged() {
+        ((AbstractSelector)selector()).enqueueInterestOpsUpdate(this);
+    }
+
     /**
      * Cancels this key.
      *
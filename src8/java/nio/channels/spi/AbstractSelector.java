@@ -30,8 +30,10 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 import sun.nio.ch.Interruptible;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
@@ -189,6 +191,62 @@ public abstract class AbstractSelector
     }
 
 
+    // -- Interest-set update queue --
+
+    // Keys whose interest sets have changed since the updates were last
+    // processed, as a stack linked through AbstractSelectionKey.nextUpdate.
+    // A key is on the stack at most once, so pushing never allocates.
+    private final AtomicReference<AbstractSelectionKey> pendingUpdates
+        = new AtomicReference<>();
+
+    void enqueueInterestOpsUpdate(AbstractSelectionKey k) { // package-private
+        if (!k.markUpdatePending())
+            return;
+        AbstractSelectionKey head;
+        do {
+            head = pendingUpdates.get();
+            k.nextUpdate = head;
+        } while (!pendingUpdates.compareAndSet(head, k));
+    }
+
+    /**
+     * Processes the keys whose interest sets have changed.
+     *
+     * <p> This method is intended to be invoked by the thread performing a
+     * selection operation, before it polls the operating system, in order
+     * to apply the interest-set changes recorded by {@link
+     * AbstractSelectionKey#interestOpsChanged interestOpsChanged}.  The
+     * action is invoked once for each such key, in no particular order.  A
+     * key is removed from the queue before the action is invoked with it,
+     * so a change made while the action is running is queued again rather
+     * than lost.  </p>
+     *
+     * @param  action
+     *         The action to perform for each key, typically one that reads
+     *         the key's current interest set and updates the operating
+     *         system's registration accordingly
+     *
+     * @return  The number of keys processed
+     *
+     * @since 1.8
+     */
+    protected final int processInterestOpsUpdates(
+        Consumer<? super AbstractSelectionKey> action)
+    {
+        AbstractSelectionKey k = pendingUpdates.getAndSet(null);
+        int n = 0;
+        while (k != null) {
+            AbstractSelectionKey next = k.nextUpdate;
+            k.nextUpdate = null;
+            k.clearUpdatePending();
+            action.accept(k);
+            n++;
+            k = next;
+        }
+        return n;
+    }
+
+
     // -- Interruption machinery --
 
     private Interruptible interruptor = null;
@@ -48,6 +48,7 @@ import java.text.spi.NumberFormatProvider;
 import java.util.ArrayList;
 import java.util.Currency;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -2693,6 +2694,251 @@ public class DecimalFormat extends NumberFormat {
         return other;
     }
 
+    /**
+     * Returns an immutable, thread-safe {@link Template} that formats and
+     * parses numbers exactly as this format does with its current pattern,
+     * symbols and settings.  Later changes to this format do not affect
+     * the template.
+     *
+     * @return a template for the current state of this format
+     * @since 1.8
+     */
+    public Template toTemplate() {
+        return new Template((DecimalFormat) clone());
+    }
+
+    /**
+     * A snapshot of a {@code DecimalFormat} that may be shared by
+     * concurrent threads without synchronization or cloning.  Its output
+     * is the same as that of the format it was taken from, but numbers are
+     * appended directly to a {@code StringBuilder} and no
+     * {@code FieldPosition} is needed.  For example:
+     *
+     * <blockquote><pre>
+     *   static final DecimalFormat.Template PRICE =
+     *       new DecimalFormat("#,##0.00").toTemplate();
+     *
+     *   PRICE.formatTo(sb, amount);
+     * </pre></blockquote>
+     *
+     * <p>The parsed pattern is shared; each thread that uses a template
+     * works on its own copy of the format's mutable state, such as its
+     * digit list, which is kept for reuse by later invocations.
+     *
+     * @see DecimalFormat#toTemplate()
+     * @since 1.8
+     */
+    public static final class Template {
+        // Never used to format or parse, only copied
+        private final DecimalFormat prototype;
+        private final String pattern;
+        private final IndexedThreadLocal<Worker> worker;
+
+        private static final class Worker {
+            final DecimalFormat format;
+            final StringBuffer buffer = new StringBuffer();
+            boolean busy;
+
+            Worker(DecimalFormat prototype) {
+                format = (DecimalFormat) prototype.clone();
+            }
+        }
+
+        Template(DecimalFormat prototype) {
+            this.prototype = prototype;
+            this.pattern = prototype.toPattern();
+            this.worker = IndexedThreadLocal.withInitial(() -> new Worker(prototype));
+        }
+
+        private Worker acquire() {
+            Worker w = worker.get();
+            if (w.busy) {
+                // Applied recursively, e.g. by a Number's doubleValue()
+                w = new Worker(prototype);
+            }
+            w.busy = true;
+            return w;
+        }
+
+        private static void release(Worker w) {
+            w.buffer.setLength(0);
+            w.busy = false;
+        }
+
+        /**
+         * Appends the formatted double to the given string builder.
+         *
+         * @param sb the destination for the formatted number
+         * @param number the number to format
+         * @return the string builder
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         * @see DecimalFormat#format(double)
+         */
+        public StringBuilder formatTo(StringBuilder sb, double number) {
+            Objects.requireNonNull(sb);
+            Worker w = acquire();
+            try {
+                w.format.format(number, w.buffer, DontCareFieldPosition.INSTANCE);
+                return sb.append(w.buffer);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Appends the formatted long to the given string builder.
+         *
+         * @param sb the destination for the formatted number
+         * @param number the number to format
+         * @return the string builder
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         * @see DecimalFormat#format(long)
+         */
+        public StringBuilder formatTo(StringBuilder sb, long number) {
+            Objects.requireNonNull(sb);
+            Worker w = acquire();
+            try {
+                w.format.format(number, w.buffer, DontCareFieldPosition.INSTANCE);
+                return sb.append(w.buffer);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Appends the formatted number to the given string builder.  The
+         * number may be any {@code Number} accepted by
+         * {@link DecimalFormat#format(Object, StringBuffer, FieldPosition)},
+         * including {@code BigDecimal} and {@code BigInteger}.
+         *
+         * @param sb the destination for the formatted number
+         * @param number the number to format
+         * @return the string builder
+         * @exception IllegalArgumentException if {@code number} is null or
+         *            not an instance of {@code Number}
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         */
+        public StringBuilder formatTo(StringBuilder sb, Object number) {
+            Objects.requireNonNull(sb);
+            Worker w = acquire();
+            try {
+                w.format.format(number, w.buffer, DontCareFieldPosition.INSTANCE);
+                return sb.append(w.buffer);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Formats a double to produce a string.
+         *
+         * @param number the number to format
+         * @return the formatted string
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         */
+        public String format(double number) {
+            return formatTo(new StringBuilder(), number).toString();
+        }
+
+        /**
+         * Formats a long to produce a string.
+         *
+         * @param number the number to format
+         * @return the formatted string
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         */
+        public String format(long number) {
+            return formatTo(new StringBuilder(), number).toString();
+        }
+
+        /**
+         * Formats a number to produce a string.
+         *
+         * @param number the number to format
+         * @return the formatted string
+         * @exception IllegalArgumentException if {@code number} is null or
+         *            not an instance of {@code Number}
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         */
+        public String format(Object number) {
+            return formatTo(new StringBuilder(), number).toString();
+        }
+
+        /**
+         * Parses text from a string to produce a {@code Number}, as
+         * {@link DecimalFormat#parse(String, ParsePosition)} does.
+         *
+         * @param text the string to be parsed
+         * @param pos on input, the index at which to start parsing; on
+         *            output, the index after the last character parsed or,
+         *            if parsing failed, the index at which the error occurred
+         * @return the parsed value, or {@code null} if the parse fails
+         * @exception NullPointerException if {@code text} or
+         *            {@code pos} is null.
+         */
+        public Number parse(String text, ParsePosition pos) {
+            Worker w = acquire();
+            try {
+                return w.format.parse(text, pos);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Parses text from the beginning of the given string to produce a
+         * number, as {@link NumberFormat#parse(String)} does.
+         *
+         * @param source the string to be parsed
+         * @return the parsed value
+         * @exception ParseException if the beginning of the specified string
+         *            cannot be parsed.
+         */
+        public Number parse(String source) throws ParseException {
+            Worker w = acquire();
+            try {
+                return w.format.parse(source);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Returns a new {@code DecimalFormat} with the same pattern, symbols
+         * and settings as this template.
+         *
+         * @return a new format equal to the one this template was taken from
+         */
+        public DecimalFormat toFormat() {
+            return (DecimalFormat) prototype.clone();
+        }
+
+        /**
+         * Returns the pattern of this template.
+         *
+         * @return the pattern, as from {@link DecimalFormat#toPattern()}
+         */
+        public String toPattern() {
+            return pattern;
+        }
+
+        /**
+         * Returns the pattern of this template.
+         *
+         * @return the pattern
+         */
+        @Override
+        public String toString() {
+            return pattern;
+        }
+    }
+
     /**
      * Overrides equals
      */
@@ -125,9 +125,35 @@ final class RBCollationTables {
             contractFlags = cFlgs;
             maxSecOrder = mso;
             maxTerOrder = mto;
+            asciiOrders = buildAsciiOrders();
         }
     }
 
+    /**
+     * Returns the collation orders of the ASCII characters, indexed by
+     * character.  A character has its order here only if it maps to a
+     * single, non-ignorable collation element and does not take part in
+     * any contracting sequence; all other characters are UNMAPPED.
+     * (Used by the ASCII fast path of RuleBasedCollator.compare().)
+     */
+    int[] getAsciiOrders() {
+        return asciiOrders;
+    }
+
+    private int[] buildAsciiOrders() {
+        int[] orders = new int[0x80];
+        for (int ch = 0; ch < orders.length; ch++) {
+            int value = mapping.elementAt(ch);
+            if (value == UNMAPPED || value >= EXPANDCHARINDEX ||
+                    (value & PRIMARYORDERMASK) == 0 ||
+                    usedInContractSeq(ch)) {
+                value = UNMAPPED;
+            }
+            orders[ch] = value;
+        }
+        return orders;
+    }
+
     /**
      * Gets the table-based rules for the collation object.
      * @return returns the collation rules that the table collation object
@@ -243,7 +269,7 @@ final class RBCollationTables {
      */
     //shemran/Note: this is used for secondary order value reverse, no
     //              need to consider supplementary pair.
-    static void reverse (StringBuffer result, int from, int to)
+    static void reverse (StringBuilder result, int from, int to)
     {
         int i = from;
         char swap;
@@ -298,4 +324,5 @@ final class RBCollationTables {
 
     private short maxSecOrder = 0;
     private short maxTerOrder = 0;
+    private int[] asciiOrders = null;
 }
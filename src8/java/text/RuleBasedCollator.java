@@ -39,8 +39,11 @@
 package java.text;
 
 import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Vector;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The <code>RuleBasedCollator</code> class is a concrete subclass of
@@ -357,6 +360,11 @@ public class RuleBasedCollator extends Collator{
             throw new NullPointerException();
         }
 
+        int[] asciiOrders = tables.getAsciiOrders();
+        if (isSimpleAscii(source, asciiOrders) && isSimpleAscii(target, asciiOrders)) {
+            return compareAscii(source, target, asciiOrders);
+        }
+
         // The basic algorithm here is that we use CollationElementIterators
         // to step through both the source and target strings.  We compare each
         // collation element in the source string against the corresponding one
@@ -563,6 +571,95 @@ public class RuleBasedCollator extends Collator{
         return result;
     }
 
+    /**
+     * Returns true if every character of the string is ASCII and has an
+     * entry in the table of simple ASCII orders, in which case each
+     * character yields exactly one non-ignorable collation element and
+     * normalization leaves the string unchanged.
+     */
+    private static boolean isSimpleAscii(String s, int[] asciiOrders) {
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= asciiOrders.length || asciiOrders[c] == UNMAPPED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the mask that CollationElementIterator.strengthOrder() applies
+     * to collation elements at the given strength.
+     */
+    private static int strengthMask(int strength) {
+        if (strength == Collator.PRIMARY) {
+            return RBCollationTables.PRIMARYDIFFERENCEONLY;
+        } else if (strength == Collator.SECONDARY) {
+            return RBCollationTables.SECONDARYDIFFERENCEONLY;
+        }
+        return 0xffffffff;
+    }
+
+    /**
+     * The algorithm of compare() for strings accepted by isSimpleAscii(),
+     * which reads collation elements straight from the table.  As there
+     * are no ignorable elements, the elements of the two strings stay
+     * paired, and the first unpaired element decides at primary strength.
+     */
+    private int compareAscii(String source, String target, int[] asciiOrders)
+    {
+        int strength = getStrength();
+        int mask = strengthMask(strength);
+        boolean frenchSec = tables.isFrenchSec();
+        boolean initialCheckSecTer = strength >= Collator.SECONDARY;
+        boolean checkSecTer = initialCheckSecTer;
+        boolean checkTertiary = strength >= Collator.TERTIARY;
+        int result = Collator.EQUAL;
+
+        int sLength = source.length();
+        int tLength = target.length();
+        int length = Math.min(sLength, tLength);
+        for (int i = 0; i < length; i++) {
+            int sOrder = asciiOrders[source.charAt(i)] & mask;
+            int tOrder = asciiOrders[target.charAt(i)] & mask;
+            if (sOrder == tOrder) {
+                if (frenchSec && !checkSecTer) {
+                    checkSecTer = initialCheckSecTer;
+                    checkTertiary = false;
+                }
+                continue;
+            }
+            int pSOrder = CollationElementIterator.primaryOrder(sOrder);
+            int pTOrder = CollationElementIterator.primaryOrder(tOrder);
+            if (pSOrder != pTOrder) {
+                return (pSOrder < pTOrder) ? Collator.LESS : Collator.GREATER;
+            }
+            if (checkSecTer) {
+                short secSOrder = CollationElementIterator.secondaryOrder(sOrder);
+                short secTOrder = CollationElementIterator.secondaryOrder(tOrder);
+                if (secSOrder != secTOrder) {
+                    result = (secSOrder < secTOrder) ? Collator.LESS : Collator.GREATER;
+                    checkSecTer = false;
+                } else if (checkTertiary) {
+                    short terSOrder = CollationElementIterator.tertiaryOrder(sOrder);
+                    short terTOrder = CollationElementIterator.tertiaryOrder(tOrder);
+                    if (terSOrder != terTOrder) {
+                        result = (terSOrder < terTOrder) ? Collator.LESS : Collator.GREATER;
+                        checkTertiary = false;
+                    }
+                }
+            }
+        }
+        if (sLength != tLength) {
+            return (sLength > tLength) ? Collator.GREATER : Collator.LESS;
+        }
+        // ASCII text is unchanged by every decomposition mode
+        if (result == 0 && strength == IDENTICAL) {
+            return source.compareTo(target);
+        }
+        return result;
+    }
+
     /**
      * Transforms the string into a series of characters that can be compared
      * with CollationKey.compareTo. This overrides java.text.Collator.getCollationKey.
@@ -603,10 +700,245 @@ public class RuleBasedCollator extends Collator{
         if (source == null)
             return null;
 
+        collectOrders(source);
+
+        primResult.append((char)0);
+        secResult.append((char)0);
+        secResult.append(terResult.toString());
+        primResult.append(secResult.toString());
+
+        if (getStrength() == IDENTICAL) {
+            primResult.append((char)0);
+            int mode = getDecomposition();
+            if (mode == CANONICAL_DECOMPOSITION) {
+                primResult.append(Normalizer.normalize(source, Normalizer.Form.NFD));
+            } else if (mode == FULL_DECOMPOSITION) {
+                primResult.append(Normalizer.normalize(source, Normalizer.Form.NFKD));
+            } else {
+                primResult.append(source);
+            }
+        }
+        return new RuleBasedCollationKey(source, primResult.toString());
+    }
+
+    /**
+     * Returns a sort key for the string as an array of bytes.  Sort keys
+     * compared with {@link #compareSortKeys compareSortKeys} are in the same
+     * order as the {@link CollationKey}s returned by
+     * {@link #getCollationKey getCollationKey} for the same strings, but
+     * they take less space, are cheaper to compare, and do not
+     * keep a reference to the source string.
+     * <p>
+     * Only sort keys created by the same collator, with the same strength
+     * and decomposition mode, can be compared.
+     *
+     * @param source the string to be transformed into a sort key.
+     * @return the sort key for the given string, or null if
+     * <code>source</code> is null.
+     * @see #getSortKeys(String[])
+     * @since 1.8
+     */
+    public synchronized byte[] getSortKey(String source)
+    {
+        //
+        // The sort key holds the same characters as the collation key, in an
+        // encoding whose unsigned byte order is the order of the characters:
+        // primary orders and the IDENTICAL suffix as two bytes each, and the
+        // (mostly small) secondary and tertiary orders as one byte each if
+        // below 0xff, or as 0xff followed by two bytes.  The null separators
+        // keep the same width as the section they end, so keys stay aligned
+        // section by section.
+        //
+        if (source == null)
+            return null;
+
+        collectOrders(source);
+
+        String identical = null;
+        if (getStrength() == IDENTICAL) {
+            int mode = getDecomposition();
+            if (mode == CANONICAL_DECOMPOSITION) {
+                identical = Normalizer.normalize(source, Normalizer.Form.NFD);
+            } else if (mode == FULL_DECOMPOSITION) {
+                identical = Normalizer.normalize(source, Normalizer.Form.NFKD);
+            } else {
+                identical = source;
+            }
+        }
+
+        int length = 2 * (primResult.length() + 1)
+                + sortKeyLength(secResult) + 1
+                + sortKeyLength(terResult);
+        if (identical != null) {
+            length += 1 + 2 * identical.length();
+        }
+        byte[] key = new byte[length];
+        int pos = 0;
+        for (int i = 0; i < primResult.length(); i++) {
+            char c = primResult.charAt(i);
+            key[pos++] = (byte)(c >>> 8);
+            key[pos++] = (byte)c;
+        }
+        pos += 2;
+        pos = putSortKeyOrders(secResult, key, pos) + 1;
+        pos = putSortKeyOrders(terResult, key, pos);
+        if (identical != null) {
+            pos++;
+            for (int i = 0; i < identical.length(); i++) {
+                char c = identical.charAt(i);
+                key[pos++] = (byte)(c >>> 8);
+                key[pos++] = (byte)c;
+            }
+        }
+        return key;
+    }
+
+    private static int sortKeyLength(StringBuilder orders) {
+        int length = orders.length();
+        for (int i = 0; i < orders.length(); i++) {
+            if (orders.charAt(i) >= 0xff) {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    private static int putSortKeyOrders(StringBuilder orders, byte[] key, int pos) {
+        for (int i = 0; i < orders.length(); i++) {
+            char c = orders.charAt(i);
+            if (c < 0xff) {
+                key[pos++] = (byte)c;
+            } else {
+                key[pos++] = (byte)0xff;
+                key[pos++] = (byte)(c >>> 8);
+                key[pos++] = (byte)c;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the sort keys of the given strings, as by
+     * {@link #getSortKey getSortKey}.
+     *
+     * @param sources the strings to be transformed into sort keys.
+     * @return an array holding the sort key of each string, or null where
+     * the string is null.
+     * @exception NullPointerException if <code>sources</code> is null.
+     * @since 1.8
+     */
+    public synchronized byte[][] getSortKeys(String[] sources)
+    {
+        byte[][] keys = new byte[sources.length][];
+        for (int i = 0; i < sources.length; i++) {
+            keys[i] = getSortKey(sources[i]);
+        }
+        return keys;
+    }
+
+    /**
+     * Compares two sort keys returned by {@link #getSortKey getSortKey}.
+     * The keys are compared as sequences of unsigned bytes, a key that is
+     * a prefix of the other being the lesser.
+     *
+     * @param key1 the first sort key.
+     * @param key2 the second sort key.
+     * @return a negative integer, zero, or a positive integer as the first
+     * key is less than, equal to, or greater than the second.
+     * @exception NullPointerException if either key is null.
+     * @since 1.8
+     */
+    public static int compareSortKeys(byte[] key1, byte[] key2)
+    {
+        int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            if (key1[i] != key2[i]) {
+                return (key1[i] & 0xff) - (key2[i] & 0xff);
+            }
+        }
+        return key1.length - key2.length;
+    }
+
+    /**
+     * Sorts the array of strings into the order of their sort keys, which
+     * is the order of their collation keys.  Each string's sort key is
+     * created once, instead of the strings being compared repeatedly by
+     * {@link #compare compare}.  The sort is stable.
+     *
+     * @param a the strings to be sorted.
+     * @exception NullPointerException if <code>a</code> or any of its
+     * elements is null.
+     * @see #parallelSort(String[])
+     * @since 1.8
+     */
+    public void sort(String[] a)
+    {
+        SortEntry[] entries = new SortEntry[a.length];
+        synchronized (this) {
+            for (int i = 0; i < a.length; i++) {
+                entries[i] = new SortEntry(a[i], getSortKey(Objects.requireNonNull(a[i])));
+            }
+        }
+        Arrays.sort(entries);
+        for (int i = 0; i < a.length; i++) {
+            a[i] = entries[i].source;
+        }
+    }
+
+    /**
+     * Sorts the array of strings as {@link #sort(String[]) sort} does, but
+     * creates the sort keys and sorts them in parallel using the
+     * {@linkplain ForkJoinPool#commonPool() common pool}.  The keys are
+     * created by copies of this collator, so concurrent use of this
+     * collator is not blocked.
+     *
+     * @param a the strings to be sorted.
+     * @exception NullPointerException if <code>a</code> or any of its
+     * elements is null.
+     * @see Arrays#parallelSort(Object[])
+     * @since 1.8
+     */
+    public void parallelSort(String[] a)
+    {
+        RuleBasedCollator prototype = (RuleBasedCollator) clone();
+        ThreadLocal<RuleBasedCollator> collators =
+            ThreadLocal.withInitial(() -> (RuleBasedCollator) prototype.clone());
+        SortEntry[] entries = new SortEntry[a.length];
+        Arrays.parallelSetAll(entries, i -> {
+            String s = Objects.requireNonNull(a[i]);
+            return new SortEntry(s, collators.get().getSortKey(s));
+        });
+        Arrays.parallelSort(entries);
+        for (int i = 0; i < a.length; i++) {
+            a[i] = entries[i].source;
+        }
+    }
+
+    private static final class SortEntry implements Comparable<SortEntry> {
+        final String source;
+        final byte[] key;
+
+        SortEntry(String source, byte[] key) {
+            this.source = source;
+            this.key = key;
+        }
+
+        public int compareTo(SortEntry other) {
+            return compareSortKeys(key, other.key);
+        }
+    }
+
+    /**
+     * Collects the primary, secondary and tertiary orders of the string
+     * into primResult, secResult and terResult for a collation key or a
+     * sort key.
+     */
+    private void collectOrders(String source)
+    {
         if (primResult == null) {
-            primResult = new StringBuffer();
-            secResult = new StringBuffer();
-            terResult = new StringBuffer();
+            primResult = new StringBuilder();
+            secResult = new StringBuilder();
+            terResult = new StringBuilder();
         } else {
             primResult.setLength(0);
             secResult.setLength(0);
@@ -619,16 +951,30 @@ public class RuleBasedCollator extends Collator{
         int terOrder = CollationElementIterator.NULLORDER;
         int preSecIgnore = 0;
 
-        if (sourceCursor == null) {
-            sourceCursor = getCollationElementIterator(source);
-        } else {
-            sourceCursor.setText(source);
+        // simple ASCII strings are read straight from the table (see compare())
+        int[] asciiOrders = tables.getAsciiOrders();
+        boolean ascii = isSimpleAscii(source, asciiOrders);
+        int mask = strengthMask(getStrength());
+        int index = 0;
+        if (!ascii) {
+            if (sourceCursor == null) {
+                sourceCursor = getCollationElementIterator(source);
+            } else {
+                sourceCursor.setText(source);
+            }
         }
 
         // walk through each character
-        while ((order = sourceCursor.next()) !=
-               CollationElementIterator.NULLORDER)
+        while (true)
         {
+            if (ascii) {
+                if (index == source.length())
+                    break;
+                order = asciiOrders[source.charAt(index++)] & mask;
+            } else if ((order = sourceCursor.next()) ==
+                       CollationElementIterator.NULLORDER) {
+                break;
+            }
             secOrder = CollationElementIterator.secondaryOrder(order);
             terOrder = CollationElementIterator.tertiaryOrder(order);
             if (!CollationElementIterator.isIgnorable(order))
@@ -678,23 +1024,6 @@ public class RuleBasedCollator extends Collator{
             // And now reverse the entire secResult to get French secondary ordering.
             RBCollationTables.reverse(secResult, 0, secResult.length());
         }
-        primResult.append((char)0);
-        secResult.append((char)0);
-        secResult.append(terResult.toString());
-        primResult.append(secResult.toString());
-
-        if (getStrength() == IDENTICAL) {
-            primResult.append((char)0);
-            int mode = getDecomposition();
-            if (mode == CANONICAL_DECOMPOSITION) {
-                primResult.append(Normalizer.normalize(source, Normalizer.Form.NFD));
-            } else if (mode == FULL_DECOMPOSITION) {
-                primResult.append(Normalizer.normalize(source, Normalizer.Form.NFKD));
-            } else {
-                primResult.append(source);
-            }
-        }
-        return new RuleBasedCollationKey(source, primResult.toString());
     }
 
     /**
@@ -761,9 +1090,9 @@ public class RuleBasedCollator extends Collator{
 
     // Internal objects that are cached across calls so that they don't have to
     // be created/destroyed on every call to compare() and getCollationKey()
-    private StringBuffer primResult = null;
-    private StringBuffer secResult = null;
-    private StringBuffer terResult = null;
+    private StringBuilder primResult = null;
+    private StringBuilder secResult = null;
+    private StringBuilder terResult = null;
     private CollationElementIterator sourceCursor = null;
     private CollationElementIterator targetCursor = null;
 }
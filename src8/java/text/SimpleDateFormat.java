@@ -47,6 +47,7 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.SimpleTimeZone;
 import java.util.SortedMap;
 import java.util.TimeZone;
@@ -2326,6 +2327,213 @@ public class SimpleDateFormat extends DateFormat {
         return other;
     }
 
+    /**
+     * Returns an immutable, thread-safe {@link Template} that formats and
+     * parses dates exactly as this format does with its current pattern,
+     * symbols, calendar, time zone and number format.  Later changes to
+     * this format do not affect the template.
+     *
+     * @return a template for the current state of this format
+     * @since 1.8
+     */
+    public Template toTemplate() {
+        return new Template((SimpleDateFormat) clone());
+    }
+
+    /**
+     * A snapshot of a {@code SimpleDateFormat} that may be shared by
+     * concurrent threads without synchronization or cloning.  Its output
+     * is the same as that of the format it was taken from, but dates are
+     * appended directly to a {@code StringBuilder}, no
+     * {@code FieldPosition} is needed, and times may be given in
+     * milliseconds without creating a {@code Date}.  For example:
+     *
+     * <blockquote><pre>
+     *   static final SimpleDateFormat.Template STAMP =
+     *       new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").toTemplate();
+     *
+     *   STAMP.formatTo(sb, System.currentTimeMillis());
+     * </pre></blockquote>
+     *
+     * <p>The compiled pattern is shared; each thread that uses a template
+     * works on its own copy of the format's calendar and number format,
+     * which is kept for reuse by later invocations.
+     *
+     * @see SimpleDateFormat#toTemplate()
+     * @since 1.8
+     */
+    public static final class Template {
+        // Never used to format or parse, only copied
+        private final SimpleDateFormat prototype;
+        private final String pattern;
+        private final IndexedThreadLocal<Worker> worker;
+
+        private static final class Worker {
+            final SimpleDateFormat format;
+            final StringBuffer buffer = new StringBuffer();
+            final Date date = new Date(0);
+            boolean busy;
+
+            Worker(SimpleDateFormat prototype) {
+                format = (SimpleDateFormat) prototype.clone();
+            }
+        }
+
+        Template(SimpleDateFormat prototype) {
+            this.prototype = prototype;
+            this.pattern = prototype.toPattern();
+            this.worker = IndexedThreadLocal.withInitial(() -> new Worker(prototype));
+        }
+
+        private Worker acquire() {
+            Worker w = worker.get();
+            if (w.busy) {
+                // Applied recursively, e.g. by a Date subclass's getTime()
+                w = new Worker(prototype);
+            }
+            w.busy = true;
+            return w;
+        }
+
+        private static void release(Worker w) {
+            w.buffer.setLength(0);
+            w.busy = false;
+        }
+
+        /**
+         * Appends the formatted date to the given string builder.
+         *
+         * @param sb the destination for the formatted date
+         * @param date the date-time value to be formatted
+         * @return the string builder
+         * @exception NullPointerException if {@code sb} or {@code date}
+         *            is null
+         */
+        public StringBuilder formatTo(StringBuilder sb, Date date) {
+            Objects.requireNonNull(sb);
+            Objects.requireNonNull(date);
+            Worker w = acquire();
+            try {
+                w.format.format(date, w.buffer, DontCareFieldPosition.INSTANCE);
+                return sb.append(w.buffer);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Appends the date-time at the given number of milliseconds since
+         * the epoch, January 1, 1970, 00:00:00 GMT, to the given string
+         * builder.
+         *
+         * @param sb the destination for the formatted date
+         * @param millis the milliseconds since the epoch
+         * @return the string builder
+         * @exception NullPointerException if {@code sb} is null
+         */
+        public StringBuilder formatTo(StringBuilder sb, long millis) {
+            Objects.requireNonNull(sb);
+            Worker w = acquire();
+            try {
+                w.date.setTime(millis);
+                w.format.format(w.date, w.buffer, DontCareFieldPosition.INSTANCE);
+                return sb.append(w.buffer);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Formats a date into a date/time string.
+         *
+         * @param date the date-time value to be formatted
+         * @return the formatted date-time string
+         * @exception NullPointerException if {@code date} is null
+         */
+        public String format(Date date) {
+            return formatTo(new StringBuilder(), date).toString();
+        }
+
+        /**
+         * Formats the date-time at the given number of milliseconds since
+         * the epoch into a date/time string.
+         *
+         * @param millis the milliseconds since the epoch
+         * @return the formatted date-time string
+         */
+        public String format(long millis) {
+            return formatTo(new StringBuilder(), millis).toString();
+        }
+
+        /**
+         * Parses text from a string to produce a {@code Date}, as
+         * {@link SimpleDateFormat#parse(String, ParsePosition)} does.
+         *
+         * @param text the string to be parsed
+         * @param pos on input, the index at which to start parsing; on
+         *            output, the index after the last character parsed or,
+         *            if parsing failed, the index at which the error occurred
+         * @return the parsed date, or {@code null} if the parse fails
+         * @exception NullPointerException if {@code text} or {@code pos}
+         *            is null.
+         */
+        public Date parse(String text, ParsePosition pos) {
+            Worker w = acquire();
+            try {
+                return w.format.parse(text, pos);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Parses text from the beginning of the given string to produce a
+         * date, as {@link DateFormat#parse(String)} does.
+         *
+         * @param source the string to be parsed
+         * @return the parsed date
+         * @exception ParseException if the beginning of the specified string
+         *            cannot be parsed.
+         */
+        public Date parse(String source) throws ParseException {
+            Worker w = acquire();
+            try {
+                return w.format.parse(source);
+            } finally {
+                release(w);
+            }
+        }
+
+        /**
+         * Returns a new {@code SimpleDateFormat} with the same pattern,
+         * symbols, calendar and settings as this template.
+         *
+         * @return a new format equal to the one this template was taken from
+         */
+        public SimpleDateFormat toFormat() {
+            return (SimpleDateFormat) prototype.clone();
+        }
+
+        /**
+         * Returns the pattern of this template.
+         *
+         * @return the pattern, as from {@link SimpleDateFormat#toPattern()}
+         */
+        public String toPattern() {
+            return pattern;
+        }
+
+        /**
+         * Returns the pattern of this template.
+         *
+         * @return the pattern
+         */
+        @Override
+        public String toString() {
+            return pattern;
+        }
+    }
+
     /**
      * Returns the hash code value for this <code>SimpleDateFormat</code> object.
      *
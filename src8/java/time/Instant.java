@@ -392,7 +392,8 @@ public final class Instant
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static Instant parse(final CharSequence text) {
-        return DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from);
+        Objects.requireNonNull(text, "text");
+        return DateTimeFormatter.ISO_INSTANT.parseInstant(text, 0, text.length());
     }
 
     //-----------------------------------------------------------------------
@@ -489,7 +489,8 @@ public final class LocalDateTime
      */
     public static LocalDateTime parse(CharSequence text, DateTimeFormatter formatter) {
         Objects.requireNonNull(formatter, "formatter");
-        return formatter.parse(text, LocalDateTime::from);
+        Objects.requireNonNull(text, "text");
+        return formatter.parseLocalDateTime(text, 0, text.length());
     }
 
     //-----------------------------------------------------------------------
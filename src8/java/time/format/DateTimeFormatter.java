@@ -77,6 +77,8 @@ import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -510,6 +512,10 @@ public final class DateTimeFormatter {
      * The zone to use for formatting, null for no override.
      */
     private final ZoneId zone;
+    /**
+     * The fixed layout of the text, null if not known.
+     */
+    private final FixedWidthLayout layout;
 
     //-----------------------------------------------------------------------
     /**
@@ -533,7 +539,8 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter();
+        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter()
+                .withLayout(FixedWidthLayout.ofPattern(pattern));
     }
 
     /**
@@ -557,7 +564,8 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale)
+                .withLayout(FixedWidthLayout.ofPattern(pattern));
     }
 
     //-----------------------------------------------------------------------
@@ -896,7 +904,8 @@ public final class DateTimeFormatter {
                 .append(ISO_LOCAL_DATE)
                 .appendLiteral('T')
                 .append(ISO_LOCAL_TIME)
-                .toFormatter(ResolverStyle.STRICT, IsoChronology.INSTANCE);
+                .toFormatter(ResolverStyle.STRICT, IsoChronology.INSTANCE)
+                .withLayout(FixedWidthLayout.ISO_LOCAL_DATE_TIME);
     }
 
     //-----------------------------------------------------------------------
@@ -1127,7 +1136,8 @@ public final class DateTimeFormatter {
         ISO_INSTANT = new DateTimeFormatterBuilder()
                 .parseCaseInsensitive()
                 .appendInstant()
-                .toFormatter(ResolverStyle.STRICT, null);
+                .toFormatter(ResolverStyle.STRICT, null)
+                .withLayout(FixedWidthLayout.ISO_INSTANT);
     }
 
     //-----------------------------------------------------------------------
@@ -1373,6 +1383,26 @@ public final class DateTimeFormatter {
             Locale locale, DecimalStyle decimalStyle,
             ResolverStyle resolverStyle, Set<TemporalField> resolverFields,
             Chronology chrono, ZoneId zone) {
+        this(printerParser, locale, decimalStyle, resolverStyle, resolverFields,
+             chrono, zone, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param printerParser  the printer/parser to use, not null
+     * @param locale  the locale to use, not null
+     * @param decimalStyle  the DecimalStyle to use, not null
+     * @param resolverStyle  the resolver style to use, not null
+     * @param resolverFields  the fields to use during resolving, null for all fields
+     * @param chrono  the chronology to use, null for no override
+     * @param zone  the zone to use, null for no override
+     * @param layout  the fixed layout of the text, null if not known
+     */
+    private DateTimeFormatter(CompositePrinterParser printerParser,
+            Locale locale, DecimalStyle decimalStyle,
+            ResolverStyle resolverStyle, Set<TemporalField> resolverFields,
+            Chronology chrono, ZoneId zone, FixedWidthLayout layout) {
         this.printerParser = Objects.requireNonNull(printerParser, "printerParser");
         this.resolverFields = resolverFields;
         this.locale = Objects.requireNonNull(locale, "locale");
@@ -1380,6 +1410,25 @@ public final class DateTimeFormatter {
         this.resolverStyle = Objects.requireNonNull(resolverStyle, "resolverStyle");
         this.chrono = chrono;
         this.zone = zone;
+        this.layout = layout;
+    }
+
+    /**
+     * Returns a copy of this formatter with the fast path for a fixed layout.
+     * <p>
+     * The layout is only kept by formatters created from a pattern or as
+     * constants.  Formatters derived from them by the {@code with} methods
+     * do not have it, as the layout does not apply their settings.
+     *
+     * @param layout  the layout of the text of this formatter, null if none
+     * @return a formatter with the layout, not null
+     */
+    private DateTimeFormatter withLayout(FixedWidthLayout layout) {
+        if (layout == null) {
+            return this;
+        }
+        return new DateTimeFormatter(printerParser, locale, decimalStyle,
+                resolverStyle, resolverFields, chrono, zone, layout);
     }
 
     //-----------------------------------------------------------------------
@@ -1740,6 +1789,10 @@ public final class DateTimeFormatter {
     public void formatTo(TemporalAccessor temporal, Appendable appendable) {
         Objects.requireNonNull(temporal, "temporal");
         Objects.requireNonNull(appendable, "appendable");
+        if (layout != null && appendable instanceof StringBuilder
+                && layout.format(temporal, (StringBuilder) appendable)) {
+            return;
+        }
         try {
             DateTimePrintContext context = new DateTimePrintContext(temporal, this);
             if (appendable instanceof StringBuilder) {
@@ -1856,6 +1909,85 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Fully parses a range of the text producing a local date-time.
+     * <p>
+     * This is equivalent to {@link #parse(CharSequence, TemporalQuery)
+     * parse(text.subSequence(start, end), LocalDateTime::from)}, except that
+     * no sub-sequence is created.  Formatters with a fixed layout, such as
+     * {@link #ISO_LOCAL_DATE_TIME} and those created from patterns like
+     * {@code "yyyyMMddHHmmss"} or {@code "yyyy-MM-dd HH:mm:ss.SSS"}, parse
+     * valid text directly to the result, without building the intermediate
+     * map of parsed fields.
+     * <p>
+     * If the parse fails, the exception is the same as that of the
+     * equivalent call, so its parsed string and error index are relative to
+     * the range.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index of the range, inclusive
+     * @param end  the end index of the range, exclusive
+     * @return the parsed local date-time, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if unable to parse the requested result
+     * @since 1.8
+     */
+    public LocalDateTime parseLocalDateTime(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        checkRange(text, start, end);
+        if (layout != null) {
+            LocalDateTime ldt = layout.parseLocalDateTime(text, start, end);
+            if (ldt != null) {
+                return ldt;
+            }
+        }
+        return parse(range(text, start, end), LocalDateTime::from);
+    }
+
+    /**
+     * Fully parses a range of the text producing an instant.
+     * <p>
+     * This is equivalent to {@link #parse(CharSequence, TemporalQuery)
+     * parse(text.subSequence(start, end), Instant::from)}, except that
+     * no sub-sequence is created.  The {@link #ISO_INSTANT} formatter parses
+     * valid text directly to the result, without building the intermediate
+     * map of parsed fields.
+     * <p>
+     * If the parse fails, the exception is the same as that of the
+     * equivalent call, so its parsed string and error index are relative to
+     * the range.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index of the range, inclusive
+     * @param end  the end index of the range, exclusive
+     * @return the parsed instant, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if unable to parse the requested result
+     * @since 1.8
+     */
+    public Instant parseInstant(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        checkRange(text, start, end);
+        if (layout != null) {
+            Instant instant = layout.parseInstant(text, start, end);
+            if (instant != null) {
+                return instant;
+            }
+        }
+        return parse(range(text, start, end), Instant::from);
+    }
+
+    private static void checkRange(CharSequence text, int start, int end) {
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IndexOutOfBoundsException(
+                "start " + start + ", end " + end + ", length " + text.length());
+        }
+    }
+
+    private static CharSequence range(CharSequence text, int start, int end) {
+        return (start == 0 && end == text.length()) ? text : text.subSequence(start, end);
+    }
+
     /**
      * Fully parses the text producing an object of one of the specified types.
      * <p>
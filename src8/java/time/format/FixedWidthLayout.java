@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package java.time.format;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * A fast path for formatters whose text has a fixed layout of ASCII digits
+ * and literals, such as {@code ISO_LOCAL_DATE_TIME}, {@code ISO_INSTANT}
+ * and patterns like {@code "yyyyMMddHHmmss"}.
+ * <p>
+ * The layout formats and parses the common cases directly, without the
+ * print and parse contexts and the map of parsed fields used by the
+ * printer-parsers.  It only handles text and values for which the result
+ * is certain to be the same as that of the formatter; anything else, such
+ * as a year outside 0000-9999, a signed year, an invalid date or a leap
+ * second, is reported as not handled and the caller falls back to the
+ * formatter, which produces the result or the exception for it.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+final class FixedWidthLayout {
+
+    /** The kinds of layout. */
+    private static final int PATTERN = 0;
+    private static final int ISO_LOCAL_DATE_TIME_KIND = 1;
+    private static final int ISO_INSTANT_KIND = 2;
+
+    /** The kinds of element of a pattern. */
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int YEAR_OF_ERA = 2;
+    private static final int MONTH = 3;
+    private static final int DAY = 4;
+    private static final int HOUR = 5;
+    private static final int MINUTE = 6;
+    private static final int SECOND = 7;
+    private static final int FRACTION = 8;
+
+    /** The layout of {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}. */
+    static final FixedWidthLayout ISO_LOCAL_DATE_TIME =
+            new FixedWidthLayout(ISO_LOCAL_DATE_TIME_KIND, null, null, null, 0);
+    /** The layout of {@link DateTimeFormatter#ISO_INSTANT}. */
+    static final FixedWidthLayout ISO_INSTANT =
+            new FixedWidthLayout(ISO_INSTANT_KIND, null, null, null, 0);
+
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    private static final long SECONDS_PER_DAY = 86400L;
+    // 0000-01-01T00:00:00Z and 9999-12-31T23:59:59Z
+    private static final long MIN_SECOND = -62167219200L;
+    private static final long MAX_SECOND = 253402300799L;
+
+    private final int kind;
+    private final int[] kinds;
+    private final int[] widths;
+    private final char[] literals;
+    private final int length;
+    // Bit set of the pattern element kinds present
+    private final int present;
+
+    private FixedWidthLayout(int kind, int[] kinds, int[] widths,
+                             char[] literals, int length) {
+        this.kind = kind;
+        this.kinds = kinds;
+        this.widths = widths;
+        this.literals = literals;
+        this.length = length;
+        int present = 0;
+        if (kinds != null) {
+            for (int k : kinds) {
+                present |= 1 << k;
+            }
+        }
+        this.present = present;
+    }
+
+    /**
+     * Obtains the layout of a pattern, as accepted by
+     * {@link DateTimeFormatter#ofPattern(String)}, if it has one.
+     * <p>
+     * The supported letters are 'uuuu', 'yyyy', 'MM', 'dd', 'HH', 'mm',
+     * 'ss' and 'S' to 'SSSSSSSSS', each at most once.  Literals can be
+     * any character other than letters, digits and the reserved characters,
+     * and can be quoted.  A fraction directly following another numeric
+     * field is not supported, as adjacent value parsing of the formatter
+     * treats it differently.
+     *
+     * @param pattern  the pattern, not null
+     * @return the layout, null if the pattern is not supported
+     */
+    static FixedWidthLayout ofPattern(String pattern) {
+        int n = pattern.length();
+        int[] kinds = new int[n];
+        int[] widths = new int[n];
+        char[] literals = new char[n];
+        int count = 0;
+        int length = 0;
+        int seen = 0;
+        for (int pos = 0; pos < n; ) {
+            char cur = pattern.charAt(pos);
+            if ((cur >= 'A' && cur <= 'Z') || (cur >= 'a' && cur <= 'z')) {
+                int start = pos++;
+                while (pos < n && pattern.charAt(pos) == cur) {
+                    pos++;
+                }
+                int width = pos - start;
+                int k;
+                switch (cur) {
+                    case 'u': k = (width == 4 ? YEAR : -1); break;
+                    case 'y': k = (width == 4 ? YEAR_OF_ERA : -1); break;
+                    case 'M': k = (width == 2 ? MONTH : -1); break;
+                    case 'd': k = (width == 2 ? DAY : -1); break;
+                    case 'H': k = (width == 2 ? HOUR : -1); break;
+                    case 'm': k = (width == 2 ? MINUTE : -1); break;
+                    case 's': k = (width == 2 ? SECOND : -1); break;
+                    case 'S': k = (width <= 9 ? FRACTION : -1); break;
+                    default: k = -1;
+                }
+                if (k < 0 || (seen & (1 << k)) != 0
+                        || (k == YEAR && (seen & (1 << YEAR_OF_ERA)) != 0)
+                        || (k == YEAR_OF_ERA && (seen & (1 << YEAR)) != 0)
+                        || (k == FRACTION && count > 0 && kinds[count - 1] != LITERAL)) {
+                    return null;
+                }
+                seen |= 1 << k;
+                kinds[count] = k;
+                widths[count] = width;
+                count++;
+                length += width;
+            } else if (cur == '\'') {
+                int end = pattern.indexOf('\'', pos + 1);
+                if (end <= pos + 1 || (end + 1 < n && pattern.charAt(end + 1) == '\'')) {
+                    // unterminated, empty or containing an escaped quote
+                    return null;
+                }
+                for (int i = pos + 1; i < end; i++) {
+                    char c = pattern.charAt(i);
+                    if (c >= '0' && c <= '9') {
+                        return null;
+                    }
+                    kinds[count] = LITERAL;
+                    widths[count] = 1;
+                    literals[count] = c;
+                    count++;
+                    length++;
+                }
+                pos = end + 1;
+            } else if (cur == '[' || cur == ']' || cur == '{' || cur == '}'
+                    || cur == '#' || (cur >= '0' && cur <= '9')) {
+                return null;
+            } else {
+                kinds[count] = LITERAL;
+                widths[count] = 1;
+                literals[count] = cur;
+                count++;
+                length++;
+                pos++;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        return new FixedWidthLayout(PATTERN,
+                java.util.Arrays.copyOf(kinds, count),
+                java.util.Arrays.copyOf(widths, count),
+                java.util.Arrays.copyOf(literals, count), length);
+    }
+
+    private boolean has(int k) {
+        return (present & (1 << k)) != 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Formats a temporal if this layout handles it.
+     *
+     * @param temporal  the temporal to format, not null
+     * @param buf  the buffer to append to, not null
+     * @return true if the temporal was formatted, false if nothing was appended
+     */
+    boolean format(TemporalAccessor temporal, StringBuilder buf) {
+        switch (kind) {
+            case ISO_LOCAL_DATE_TIME_KIND:
+                if (temporal instanceof LocalDateTime) {
+                    LocalDateTime ldt = (LocalDateTime) temporal;
+                    int year = ldt.getYear();
+                    if (year < 0 || year > 9999) {
+                        return false;
+                    }
+                    appendIsoDateTime(buf, year, ldt.getMonthValue(),
+                            ldt.getDayOfMonth(), ldt.getHour(), ldt.getMinute(),
+                            ldt.getSecond());
+                    int nano = ldt.getNano();
+                    if (nano > 0) {
+                        // the fraction without trailing zeros
+                        int digits = 9;
+                        while (nano % 10 == 0) {
+                            nano /= 10;
+                            digits--;
+                        }
+                        buf.append('.');
+                        appendDigits(buf, nano, digits);
+                    }
+                    return true;
+                }
+                return false;
+            case ISO_INSTANT_KIND:
+                if (temporal instanceof Instant) {
+                    Instant instant = (Instant) temporal;
+                    long secs = instant.getEpochSecond();
+                    if (secs < MIN_SECOND || secs > MAX_SECOND) {
+                        return false;
+                    }
+                    LocalDateTime ldt = LocalDateTime.ofEpochSecond(secs, 0,
+                            java.time.ZoneOffset.UTC);
+                    appendIsoDateTime(buf, ldt.getYear(), ldt.getMonthValue(),
+                            ldt.getDayOfMonth(), ldt.getHour(), ldt.getMinute(),
+                            ldt.getSecond());
+                    int nano = instant.getNano();
+                    if (nano > 0) {
+                        buf.append('.');
+                        if (nano % 1000_000 == 0) {
+                            appendDigits(buf, nano / 1000_000, 3);
+                        } else if (nano % 1000 == 0) {
+                            appendDigits(buf, nano / 1000, 6);
+                        } else {
+                            appendDigits(buf, nano, 9);
+                        }
+                    }
+                    buf.append('Z');
+                    return true;
+                }
+                return false;
+            default:
+                if (temporal instanceof LocalDateTime) {
+                    return formatPattern((LocalDateTime) temporal, buf);
+                }
+                return false;
+        }
+    }
+
+    private boolean formatPattern(LocalDateTime ldt, StringBuilder buf) {
+        int year = ldt.getYear();
+        if (year > 9999 || year < (has(YEAR_OF_ERA) ? 1 : 0)) {
+            return false;
+        }
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL:     buf.append(literals[i]); break;
+                case YEAR:
+                case YEAR_OF_ERA: appendDigits(buf, year, 4); break;
+                case MONTH:       appendDigits(buf, ldt.getMonthValue(), 2); break;
+                case DAY:         appendDigits(buf, ldt.getDayOfMonth(), 2); break;
+                case HOUR:        appendDigits(buf, ldt.getHour(), 2); break;
+                case MINUTE:      appendDigits(buf, ldt.getMinute(), 2); break;
+                case SECOND:      appendDigits(buf, ldt.getSecond(), 2); break;
+                default:
+                    int w = widths[i];
+                    appendDigits(buf, ldt.getNano() / POWERS_OF_TEN[9 - w], w);
+            }
+        }
+        return true;
+    }
+
+    private static void appendIsoDateTime(StringBuilder buf, int year, int month,
+            int day, int hour, int minute, int second) {
+        appendDigits(buf, year, 4);
+        buf.append('-');
+        appendDigits(buf, month, 2);
+        buf.append('-');
+        appendDigits(buf, day, 2);
+        buf.append('T');
+        appendDigits(buf, hour, 2);
+        buf.append(':');
+        appendDigits(buf, minute, 2);
+        buf.append(':');
+        appendDigits(buf, second, 2);
+    }
+
+    private static void appendDigits(StringBuilder buf, int value, int width) {
+        for (int div = POWERS_OF_TEN[width - 1]; div > 0; div /= 10) {
+            buf.append((char) ('0' + value / div % 10));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the whole of a range of text to a local date-time if this
+     * layout handles it.
+     *
+     * @param text  the text, not null
+     * @param start  the start index, inclusive, valid
+     * @param end  the end index, exclusive, valid
+     * @return the date-time, null if not handled
+     */
+    LocalDateTime parseLocalDateTime(CharSequence text, int start, int end) {
+        switch (kind) {
+            case ISO_LOCAL_DATE_TIME_KIND:
+                return parseIso(text, start, end, false);
+            case PATTERN:
+                return parsePattern(text, start, end);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Parses the whole of a range of text to an instant if this layout
+     * handles it.
+     *
+     * @param text  the text, not null
+     * @param start  the start index, inclusive, valid
+     * @param end  the end index, exclusive, valid
+     * @return the instant, null if not handled
+     */
+    Instant parseInstant(CharSequence text, int start, int end) {
+        if (kind != ISO_INSTANT_KIND) {
+            return null;
+        }
+        LocalDateTime ldt = parseIso(text, start, end, true);
+        if (ldt == null) {
+            return null;
+        }
+        long epochDay = ldt.toLocalDate().toEpochDay();
+        long secs = epochDay * SECONDS_PER_DAY + ldt.toLocalTime().toSecondOfDay();
+        return Instant.ofEpochSecond(secs, ldt.getNano());
+    }
+
+    /*
+     * Parses "yyyy-MM-ddTHH:mm[:ss[.f]]", or "yyyy-MM-ddTHH:mm:ss[.f]Z"
+     * for an instant, with 'T' and 'Z' in either case and one to nine
+     * digits of fraction.
+     */
+    private static LocalDateTime parseIso(CharSequence text, int start, int end,
+                                          boolean instant) {
+        int len = end - start;
+        if (len < 16
+                || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-'
+                || (text.charAt(start + 10) | 0x20) != 't'
+                || text.charAt(start + 13) != ':') {
+            return null;
+        }
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        int hour = digits(text, start + 11, 2);
+        int minute = digits(text, start + 14, 2);
+        int second = 0;
+        int nano = 0;
+        int pos = start + 16;
+        if (instant) {
+            if (text.charAt(--end) != 'Z' && text.charAt(end) != 'z') {
+                return null;
+            }
+        }
+        if (pos < end) {
+            if (end - pos < 3 || text.charAt(pos) != ':') {
+                return null;
+            }
+            second = digits(text, pos + 1, 2);
+            pos += 3;
+            if (pos < end) {
+                int n = end - pos - 1;
+                if (text.charAt(pos) != '.' || n < 1 || n > 9) {
+                    return null;
+                }
+                int fraction = digits(text, pos + 1, n);
+                if (fraction < 0) {
+                    return null;
+                }
+                nano = fraction * POWERS_OF_TEN[9 - n];
+            }
+        } else if (instant) {
+            return null;
+        }
+        return of(year, month, day, hour, minute, second, nano, false);
+    }
+
+    private LocalDateTime parsePattern(CharSequence text, int start, int end) {
+        if (end - start != length
+                || !(has(YEAR) || has(YEAR_OF_ERA)) || !has(MONTH) || !has(DAY)
+                || !has(HOUR) || !has(MINUTE)
+                || (has(FRACTION) && !has(SECOND))) {
+            return null;
+        }
+        int year = 0, month = 0, day = 0, hour = 0, minute = 0, second = 0, nano = 0;
+        int pos = start;
+        for (int i = 0; i < kinds.length; i++) {
+            int w = widths[i];
+            if (kinds[i] == LITERAL) {
+                if (text.charAt(pos) != literals[i]) {
+                    return null;
+                }
+            } else {
+                int v = digits(text, pos, w);
+                switch (kinds[i]) {
+                    case YEAR:
+                    case YEAR_OF_ERA: year = v; break;
+                    case MONTH:       month = v; break;
+                    case DAY:         day = v; break;
+                    case HOUR:        hour = v; break;
+                    case MINUTE:      minute = v; break;
+                    case SECOND:      second = v; break;
+                    default:
+                        nano = (v < 0) ? -1 : v * POWERS_OF_TEN[9 - w];
+                }
+            }
+            pos += w;
+        }
+        return of(year, month, day, hour, minute, second, nano, has(YEAR_OF_ERA));
+    }
+
+    /*
+     * Returns the date-time if all the values are valid, otherwise null so
+     * that the formatter reports the problem or resolves it in its own way.
+     */
+    private static LocalDateTime of(int year, int month, int day, int hour,
+            int minute, int second, int nano, boolean yearOfEra) {
+        if (year < (yearOfEra ? 1 : 0) || month < 1 || month > 12 || day < 1
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || second < 0 || second > 59 || nano < 0) {
+            return null;
+        }
+        int monthLength;
+        switch (month) {
+            case 2:
+                boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+                monthLength = leap ? 29 : 28;
+                break;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                monthLength = 30;
+                break;
+            default:
+                monthLength = 31;
+        }
+        if (day > monthLength) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /*
+     * Returns the value of a run of ASCII digits, or -1 if one of the
+     * characters is not an ASCII digit.
+     */
+    private static int digits(CharSequence text, int pos, int width) {
+        int value = 0;
+        for (int end = pos + width; pos < end; pos++) {
+            int d = text.charAt(pos) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+}
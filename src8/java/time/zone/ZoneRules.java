@@ -67,6 +67,8 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -117,6 +119,37 @@ public final class ZoneRules implements Serializable {
      * The last year to have its transitions cached.
      */
     private static final int LAST_CACHED_YEAR = 2100;
+    /**
+     * The maximum number of years covered by an offset table.
+     */
+    private static final int MAX_TABLE_YEARS = 10000;
+    /**
+     * The first and last years covered by the offset tables, as set by the
+     * {@code java.time.zone.offsetTableStartYear} and
+     * {@code java.time.zone.offsetTableEndYear} system properties.
+     * The years are UTC years, and at most {@code MAX_TABLE_YEARS} are covered.
+     * If the last year is before the first then no offset tables are built.
+     */
+    private static final int TABLE_START_YEAR;
+    private static final int TABLE_END_YEAR;
+    static {
+        int[] years = AccessController.doPrivileged(new PrivilegedAction<int[]>() {
+            public int[] run() {
+                return new int[] {
+                    Integer.getInteger("java.time.zone.offsetTableStartYear", 1970),
+                    Integer.getInteger("java.time.zone.offsetTableEndYear", LAST_CACHED_YEAR)
+                };
+            }
+        });
+        TABLE_START_YEAR = Math.max(years[0], Year.MIN_VALUE + 1);
+        TABLE_END_YEAR = Math.min(Math.min(years[1], Year.MAX_VALUE - 1),
+                                  TABLE_START_YEAR + MAX_TABLE_YEARS - 1);
+    }
+    /**
+     * The number of bits in the epoch-second span of an offset table bucket,
+     * about 24 days.
+     */
+    private static final int TABLE_BUCKET_SHIFT = 21;
 
     /**
      * The transitions between standard offsets (epoch seconds), sorted.
@@ -149,6 +182,10 @@ public final class ZoneRules implements Serializable {
      */
     private final transient ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
                 new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    /**
+     * The offset table for the configured window, built on first use.
+     */
+    private transient volatile OffsetTable offsetTable;
     /**
      * The zero-length long array.
      */
@@ -481,6 +518,97 @@ public final class ZoneRules implements Serializable {
             return standardOffsets[0];
         }
         long epochSec = instant.getEpochSecond();
+        OffsetTable table = getOffsetTable();
+        if (table != null && table.covers(epochSec)) {
+            return table.offsets[table.find(epochSec)];
+        }
+        return findOffset(epochSec);
+    }
+
+    /**
+     * Gets the offsets applicable at each of the specified instants in these rules.
+     * <p>
+     * This is equivalent to calling {@link #getOffset(Instant)} for each element
+     * of {@code epochSeconds}, storing the result in the same position of
+     * {@code offsets}, but avoids creating an {@code Instant} for each element.
+     * Lookups are fastest when the instants are in ascending order.
+     *
+     * @param epochSeconds  the instants to find the offsets for, measured in
+     *  seconds from the epoch of 1970-01-01T00:00:00Z, not null
+     * @param offsets  the array to store the offsets in, not null
+     * @throws IllegalArgumentException if {@code offsets} is shorter than
+     *  {@code epochSeconds}
+     * @since 1.8
+     */
+    public void getOffsets(long[] epochSeconds, ZoneOffset[] offsets) {
+        checkBulkLength(epochSeconds.length, offsets.length);
+        if (savingsInstantTransitions.length == 0) {
+            Arrays.fill(offsets, 0, epochSeconds.length, standardOffsets[0]);
+            return;
+        }
+        OffsetTable table = getOffsetTable();
+        int index = 0;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSec = epochSeconds[i];
+            if (table != null && table.covers(epochSec)) {
+                index = table.find(epochSec, index);
+                offsets[i] = table.offsets[index];
+            } else {
+                offsets[i] = findOffset(epochSec);
+            }
+        }
+    }
+
+    /**
+     * Gets the total offset in seconds applicable at each of the specified
+     * instants in these rules.
+     * <p>
+     * This is equivalent to calling {@link #getOffset(Instant)} for each element
+     * of {@code epochSeconds}, storing the {@linkplain ZoneOffset#getTotalSeconds()
+     * total seconds} of the result in the same position of {@code offsetSeconds}.
+     * Lookups are fastest when the instants are in ascending order.
+     *
+     * @param epochSeconds  the instants to find the offsets for, measured in
+     *  seconds from the epoch of 1970-01-01T00:00:00Z, not null
+     * @param offsetSeconds  the array to store the offsets in, not null
+     * @throws IllegalArgumentException if {@code offsetSeconds} is shorter than
+     *  {@code epochSeconds}
+     * @since 1.8
+     */
+    public void getOffsetSeconds(long[] epochSeconds, int[] offsetSeconds) {
+        checkBulkLength(epochSeconds.length, offsetSeconds.length);
+        if (savingsInstantTransitions.length == 0) {
+            Arrays.fill(offsetSeconds, 0, epochSeconds.length, standardOffsets[0].getTotalSeconds());
+            return;
+        }
+        OffsetTable table = getOffsetTable();
+        int index = 0;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSec = epochSeconds[i];
+            if (table != null && table.covers(epochSec)) {
+                index = table.find(epochSec, index);
+                offsetSeconds[i] = table.totalSeconds[index];
+            } else {
+                offsetSeconds[i] = findOffset(epochSec).getTotalSeconds();
+            }
+        }
+    }
+
+    private static void checkBulkLength(int length, int destLength) {
+        if (destLength < length) {
+            throw new IllegalArgumentException("Destination array too short: "
+                    + destLength + " < " + length);
+        }
+    }
+
+    /**
+     * Finds the offset applicable at the specified epoch-second without
+     * using the offset table.
+     *
+     * @param epochSec  the epoch-second, not in a fixed offset zone
+     * @return the offset, not null
+     */
+    private ZoneOffset findOffset(long epochSec) {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
@@ -505,6 +633,136 @@ public final class ZoneRules implements Serializable {
         return wallOffsets[index + 1];
     }
 
+    /**
+     * Gets the offset table, building it if necessary.
+     *
+     * @return the offset table, null if tables are disabled
+     */
+    private OffsetTable getOffsetTable() {
+        OffsetTable table = offsetTable;
+        if (table == null && TABLE_START_YEAR <= TABLE_END_YEAR) {
+            // racing threads build equal tables, any of which may be kept
+            offsetTable = table = buildOffsetTable();
+        }
+        return table;
+    }
+
+    /**
+     * Builds the offset table for the configured window from the historic
+     * transitions and the last rules.
+     *
+     * @return the offset table, not null
+     */
+    private OffsetTable buildOffsetTable() {
+        long start = LocalDate.of(TABLE_START_YEAR, 1, 1).toEpochDay() * 86400;
+        long end = LocalDate.of(TABLE_END_YEAR + 1, 1, 1).toEpochDay() * 86400;
+        long[] trans = new long[16];
+        int count = 0;
+        for (long t : savingsInstantTransitions) {
+            if (t >= start && t < end) {
+                if (count == trans.length) {
+                    trans = Arrays.copyOf(trans, count * 2);
+                }
+                trans[count++] = t;
+            }
+        }
+        if (lastRules.length > 0) {
+            long last = savingsInstantTransitions[savingsInstantTransitions.length - 1];
+            int year = Math.max(findYear(last, wallOffsets[wallOffsets.length - 1]), TABLE_START_YEAR - 1);
+            for (; year <= TABLE_END_YEAR + 1; year++) {
+                for (ZoneOffsetTransitionRule rule : lastRules) {
+                    long t = rule.createTransition(year).toEpochSecond();
+                    if (t > last && t >= start && t < end) {
+                        if (count == trans.length) {
+                            trans = Arrays.copyOf(trans, count * 2);
+                        }
+                        trans[count++] = t;
+                    }
+                }
+            }
+        }
+        Arrays.sort(trans, 0, count);
+        // the offsets are looked up the same way as outside the table,
+        // so the two always agree
+        ZoneOffset[] offsets = new ZoneOffset[count + 1];
+        offsets[0] = findOffset(start);
+        for (int i = 0; i < count; i++) {
+            offsets[i + 1] = findOffset(trans[i]);
+        }
+        return new OffsetTable(start, end, Arrays.copyOf(trans, count), offsets);
+    }
+
+    /**
+     * A flat table of the offsets in a window of epoch-seconds.
+     * <p>
+     * The window is split into buckets of {@code 1 << TABLE_BUCKET_SHIFT}
+     * seconds, each of which records the index of the first transition at or
+     * after its start. As transitions are rarely closer than a bucket apart,
+     * a lookup is an array index followed by at most a step or two.
+     */
+    private static final class OffsetTable {
+        private final long start;
+        private final long end;
+        private final long[] transitions;
+        private final int[] bucketIndex;
+        /**
+         * The offsets, where element {@code i} applies from transition
+         * {@code i - 1} up to transition {@code i}.
+         */
+        final ZoneOffset[] offsets;
+        final int[] totalSeconds;
+
+        OffsetTable(long start, long end, long[] transitions, ZoneOffset[] offsets) {
+            this.start = start;
+            this.end = end;
+            this.transitions = transitions;
+            this.offsets = offsets;
+            this.totalSeconds = new int[offsets.length];
+            for (int i = 0; i < offsets.length; i++) {
+                totalSeconds[i] = offsets[i].getTotalSeconds();
+            }
+            int buckets = (int) ((end - 1 - start) >>> TABLE_BUCKET_SHIFT) + 1;
+            this.bucketIndex = new int[buckets];
+            int index = 0;
+            for (int b = 0; b < buckets; b++) {
+                long bucketStart = start + ((long) b << TABLE_BUCKET_SHIFT);
+                while (index < transitions.length && transitions[index] < bucketStart) {
+                    index++;
+                }
+                bucketIndex[b] = index;
+            }
+        }
+
+        boolean covers(long epochSec) {
+            return epochSec >= start && epochSec < end;
+        }
+
+        /**
+         * Finds the index of the offset for an epoch-second in the window.
+         */
+        int find(long epochSec) {
+            int index = bucketIndex[(int) ((epochSec - start) >>> TABLE_BUCKET_SHIFT)];
+            long[] trans = transitions;
+            while (index < trans.length && epochSec >= trans[index]) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Finds the index of the offset for an epoch-second in the window,
+         * given the index found for the previous epoch-second looked up.
+         */
+        int find(long epochSec, int hint) {
+            long[] trans = transitions;
+            if ((hint == 0 || epochSec >= trans[hint - 1]) &&
+                    (hint == trans.length || epochSec < trans[hint])) {
+                return hint;
+            }
+            return find(epochSec);
+        }
+    }
+
     /**
      * Gets a suitable offset for the specified local date-time in these rules.
      * <p>
@@ -36,6 +36,7 @@ import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
@@ -125,6 +126,18 @@ public class Arrays {
         }
     }
 
+    /**
+     * Checks that a working space array, if given, is a separate array
+     * of at least the given length and throws an exception if it isn't.
+     */
+    private static void workCheck(Object a, Object work, int workLength, int length) {
+        if (work != null && (work == a || workLength < length)) {
+            throw new IllegalArgumentException(work == a ?
+                    "work is the array to be sorted" :
+                    "work.length(" + workLength + ") < " + length);
+        }
+    }
+
     /*
      * Sorting methods. Note that all public "sort" methods take the
      * same form: Performing argument checks if necessary, and then
@@ -967,6 +980,530 @@ public class Arrays {
                  MIN_ARRAY_SORT_GRAN : g).invoke();
     }
 
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort that distributes the elements by eight bits of their value at a
+     * time, skipping any eight bits that are the same in every element.
+     * It takes time linear in the length of the array and is typically
+     * several times faster than {@link #sort(int[])} on large arrays, but
+     * it requires a working space the size of the array. The result is
+     * the same as that of {@link #sort(int[])}.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(int[] a) {
+        RadixSort.sort(a, 0, a.length, null, 0);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(int[])}. Its working space is the beginning of
+     * {@code work}, so that repeated sorts need not allocate, or an array
+     * allocated by this method if {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(int[] a, int fromIndex, int toIndex, int[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        workCheck(a, work, work == null ? 0 : work.length, toIndex - fromIndex);
+        RadixSort.sort(a, fromIndex, toIndex, work, 0);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(int[])}, in which the elements of chunks of the
+     * array are counted and distributed by their most significant varying
+     * eight bits in parallel, and the resulting buckets are then sorted in
+     * parallel. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link #radixSort(int[])}. The
+     * algorithm requires a working space the size of the array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(int[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, n, null, 0);
+        else
+            RadixSort.parallelSort(a, 0, n, null, 0, p << 2);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is the parallel radix sort described
+     * in {@link #parallelRadixSort(int[])}. Its working space is the
+     * beginning of {@code work}, or an array allocated by this method if
+     * {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(int[] a, int fromIndex, int toIndex,
+                                         int[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        workCheck(a, work, work == null ? 0 : work.length, n);
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex, work, 0);
+        else
+            RadixSort.parallelSort(a, fromIndex, toIndex, work, 0, p << 2);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort that distributes the elements by eight bits of their value at a
+     * time, skipping any eight bits that are the same in every element.
+     * It takes time linear in the length of the array and is typically
+     * several times faster than {@link #sort(long[])} on large arrays, but
+     * it requires a working space the size of the array. The result is
+     * the same as that of {@link #sort(long[])}.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(long[] a) {
+        RadixSort.sort(a, 0, a.length, null, 0);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(long[])}. Its working space is the beginning of
+     * {@code work}, so that repeated sorts need not allocate, or an array
+     * allocated by this method if {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(long[] a, int fromIndex, int toIndex, long[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        workCheck(a, work, work == null ? 0 : work.length, toIndex - fromIndex);
+        RadixSort.sort(a, fromIndex, toIndex, work, 0);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(long[])}, in which the elements of chunks of the
+     * array are counted and distributed by their most significant varying
+     * eight bits in parallel, and the resulting buckets are then sorted in
+     * parallel. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link #radixSort(long[])}. The
+     * algorithm requires a working space the size of the array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(long[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, n, null, 0);
+        else
+            RadixSort.parallelSort(a, 0, n, null, 0, p << 2);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is the parallel radix sort described
+     * in {@link #parallelRadixSort(long[])}. Its working space is the
+     * beginning of {@code work}, or an array allocated by this method if
+     * {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(long[] a, int fromIndex, int toIndex,
+                                         long[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        workCheck(a, work, work == null ? 0 : work.length, n);
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex, work, 0);
+        else
+            RadixSort.parallelSort(a, fromIndex, toIndex, work, 0, p << 2);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort that distributes the elements by eight bits of their value at a
+     * time, skipping any eight bits that are the same in every element.
+     * It takes time linear in the length of the array and is typically
+     * several times faster than {@link #sort(float[])} on large arrays, but
+     * it requires a working space the size of the array. The result is
+     * the same as that of {@link #sort(float[])}.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(float[] a) {
+        RadixSort.sort(a, 0, a.length, null, 0);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(float[])}. Its working space is the beginning of
+     * {@code work}, so that repeated sorts need not allocate, or an array
+     * allocated by this method if {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(float[] a, int fromIndex, int toIndex, float[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        workCheck(a, work, work == null ? 0 : work.length, toIndex - fromIndex);
+        RadixSort.sort(a, fromIndex, toIndex, work, 0);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(float[])}, in which the elements of chunks of the
+     * array are counted and distributed by their most significant varying
+     * eight bits in parallel, and the resulting buckets are then sorted in
+     * parallel. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link #radixSort(float[])}. The
+     * algorithm requires a working space the size of the array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(float[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, n, null, 0);
+        else
+            RadixSort.parallelSort(a, 0, n, null, 0, p << 2);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is the parallel radix sort described
+     * in {@link #parallelRadixSort(float[])}. Its working space is the
+     * beginning of {@code work}, or an array allocated by this method if
+     * {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(float[] a, int fromIndex, int toIndex,
+                                         float[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        workCheck(a, work, work == null ? 0 : work.length, n);
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex, work, 0);
+        else
+            RadixSort.parallelSort(a, fromIndex, toIndex, work, 0, p << 2);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort that distributes the elements by eight bits of their value at a
+     * time, skipping any eight bits that are the same in every element.
+     * It takes time linear in the length of the array and is typically
+     * several times faster than {@link #sort(double[])} on large arrays, but
+     * it requires a working space the size of the array. The result is
+     * the same as that of {@link #sort(double[])}.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(double[] a) {
+        RadixSort.sort(a, 0, a.length, null, 0);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(double[])}. Its working space is the beginning of
+     * {@code work}, so that repeated sorts need not allocate, or an array
+     * allocated by this method if {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(double[] a, int fromIndex, int toIndex, double[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        workCheck(a, work, work == null ? 0 : work.length, toIndex - fromIndex);
+        RadixSort.sort(a, fromIndex, toIndex, work, 0);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is the radix sort described in
+     * {@link #radixSort(double[])}, in which the elements of chunks of the
+     * array are counted and distributed by their most significant varying
+     * eight bits in parallel, and the resulting buckets are then sorted in
+     * parallel. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link #radixSort(double[])}. The
+     * algorithm requires a working space the size of the array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(double[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, n, null, 0);
+        else
+            RadixSort.parallelSort(a, 0, n, null, 0, p << 2);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical
+     * order, using the given working space.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is the parallel radix sort described
+     * in {@link #parallelRadixSort(double[])}. Its working space is the
+     * beginning of {@code work}, or an array allocated by this method if
+     * {@code work} is null.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     * @param work the working space, of length at least
+     *     {@code toIndex - fromIndex}, or null; its contents are overwritten
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *     {@code work} is shorter than the range, or if {@code work} is
+     *     {@code a}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(double[] a, int fromIndex, int toIndex,
+                                         double[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        workCheck(a, work, work == null ? 0 : work.length, n);
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex, work, 0);
+        else
+            RadixSort.parallelSort(a, fromIndex, toIndex, work, 0, p << 2);
+    }
+
     /**
      * Sorts the specified array of objects into ascending order, according
      * to the {@linkplain Comparable natural ordering} of its elements.
@@ -1008,11 +1545,11 @@ public class Arrays {
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             TimSort.sort(a, 0, n, NaturalOrder.INSTANCE, null, 0, 0);
         else
-            new ArraysParallelSortHelpers.FJObject.Sorter<T>
-                (null, a,
+            TimSort.parallelSort
+                (a, 0, n, NaturalOrder.INSTANCE,
                  (T[])Array.newInstance(a.getClass().getComponentType(), n),
-                 0, n, 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
-                 MIN_ARRAY_SORT_GRAN : g, NaturalOrder.INSTANCE).invoke();
+                 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
+                 MIN_ARRAY_SORT_GRAN : g);
     }
 
     /**
@@ -1067,11 +1604,11 @@ public class Arrays {
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             TimSort.sort(a, fromIndex, toIndex, NaturalOrder.INSTANCE, null, 0, 0);
         else
-            new ArraysParallelSortHelpers.FJObject.Sorter<T>
-                (null, a,
+            TimSort.parallelSort
+                (a, fromIndex, toIndex, NaturalOrder.INSTANCE,
                  (T[])Array.newInstance(a.getClass().getComponentType(), n),
-                 fromIndex, n, 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
-                 MIN_ARRAY_SORT_GRAN : g, NaturalOrder.INSTANCE).invoke();
+                 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
+                 MIN_ARRAY_SORT_GRAN : g);
     }
 
     /**
@@ -1116,11 +1653,11 @@ public class Arrays {
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             TimSort.sort(a, 0, n, cmp, null, 0, 0);
         else
-            new ArraysParallelSortHelpers.FJObject.Sorter<T>
-                (null, a,
+            TimSort.parallelSort
+                (a, 0, n, cmp,
                  (T[])Array.newInstance(a.getClass().getComponentType(), n),
-                 0, n, 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
-                 MIN_ARRAY_SORT_GRAN : g, cmp).invoke();
+                 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
+                 MIN_ARRAY_SORT_GRAN : g);
     }
 
     /**
@@ -1177,11 +1714,79 @@ public class Arrays {
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             TimSort.sort(a, fromIndex, toIndex, cmp, null, 0, 0);
         else
-            new ArraysParallelSortHelpers.FJObject.Sorter<T>
-                (null, a,
+            TimSort.parallelSort
+                (a, fromIndex, toIndex, cmp,
+                 (T[])Array.newInstance(a.getClass().getComponentType(), n),
+                 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
+                 MIN_ARRAY_SORT_GRAN : g);
+    }
+
+    /**
+     * Sorts the specified range of the specified array of objects according
+     * to the order induced by the specified comparator, using the given
+     * working space.  The range to be sorted extends from index
+     * {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive.
+     * (If {@code fromIndex==toIndex}, the range to be sorted is empty.)  All
+     * elements in the range must be <i>mutually comparable</i> by the
+     * specified comparator (that is, {@code c.compare(e1, e2)} must not
+     * throw a {@code ClassCastException} for any elements {@code e1} and
+     * {@code e2} in the range).
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * @implNote The sorting algorithm is the parallel sort-merge described
+     * in {@link #parallelSort(Object[], int, int, Comparator)}.  The
+     * sub-arrays are sorted with {@link Arrays#sort(Object[]) Arrays.sort},
+     * which finds the ascending and descending runs already present in
+     * them, and each merge first skips the elements that are already in
+     * place, so partially sorted input needs little merging.  Its working
+     * space is the beginning of {@code work}, or an array allocated by this
+     * method if {@code work} is null, so that a caller sorting many arrays
+     * can reuse one working space.
+     *
+     * @param <T> the class of the objects to be sorted
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *        sorted
+     * @param toIndex the index of the last element (exclusive) to be sorted
+     * @param cmp the comparator to determine the order of the array.  A
+     *        {@code null} value indicates that the elements'
+     *        {@linkplain Comparable natural ordering} should be used.
+     * @param work the working space, of length at least
+     *        {@code toIndex - fromIndex}, or null; its contents are
+     *        overwritten
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *         {@code work} is shorter than the range, if {@code work} is
+     *         {@code a}, or (optional) if the natural ordering of the array
+     *         elements is found to violate the {@link Comparable} contract
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *         {@code toIndex > a.length}
+     * @throws ClassCastException if the array contains elements that are
+     *         not <i>mutually comparable</i> (for example, strings and
+     *         integers).
+     *
+     * @since 1.8
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void parallelSort(T[] a, int fromIndex, int toIndex,
+                                        Comparator<? super T> cmp, T[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (cmp == null)
+            cmp = NaturalOrder.INSTANCE;
+        int n = toIndex - fromIndex, p, g;
+        workCheck(a, work, work == null ? 0 : work.length, n);
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            TimSort.sort(a, fromIndex, toIndex, cmp, work, 0,
+                         work == null ? 0 : work.length);
+        else
+            TimSort.parallelSort
+                (a, fromIndex, toIndex, cmp,
+                 work != null ? work :
                  (T[])Array.newInstance(a.getClass().getComponentType(), n),
-                 fromIndex, n, 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
-                 MIN_ARRAY_SORT_GRAN : g, cmp).invoke();
+                 0, ((g = n / (p << 2)) <= MIN_ARRAY_SORT_GRAN) ?
+                 MIN_ARRAY_SORT_GRAN : g);
     }
 
     /*
@@ -1535,6 +2140,88 @@ public class Arrays {
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array of objects according
+     * to the order induced by the specified comparator, taking the temporary
+     * storage of the sort from the given working space.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)  All elements in the range must be
+     * <i>mutually comparable</i> by the specified comparator (that is,
+     * {@code c.compare(e1, e2)} must not throw a {@code ClassCastException}
+     * for any elements {@code e1} and {@code e2} in the range).
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>Implementation note: This implementation is the mergesort described
+     * in {@link #sort(Object[], int, int, Comparator)}.  Its temporary
+     * storage is the beginning of {@code work}, so that a caller sorting
+     * many arrays can reuse one working space instead of having each sort
+     * allocate its own.  A working space at least half as long as the range
+     * is always sufficient; if {@code work} is null, or too short for one
+     * of the merges, storage is allocated as needed.
+     *
+     * @param <T> the class of the objects to be sorted
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *        sorted
+     * @param toIndex the index of the last element (exclusive) to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *        {@code null} value indicates that the elements'
+     *        {@linkplain Comparable natural ordering} should be used.
+     * @param work the working space, or null; its contents are overwritten
+     * @throws ClassCastException if the array contains elements that are not
+     *         <i>mutually comparable</i> using the specified comparator.
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, if
+     *         {@code work} is {@code a}, or (optional) if the comparator is
+     *         found to violate the {@link Comparator} contract
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *         {@code toIndex > a.length}
+     * @since 1.8
+     */
+    public static <T> void sort(T[] a, int fromIndex, int toIndex,
+                                Comparator<? super T> c, T[] work) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        workCheck(a, work, 0, 0);
+        int workLen = (work == null) ? 0 : work.length;
+        if (LegacyMergeSort.userRequested)
+            legacyMergeSort(a, fromIndex, toIndex, c);
+        else if (c == null)
+            ComparableTimSort.sort(a, fromIndex, toIndex, work, 0, workLen);
+        else
+            TimSort.sort(a, fromIndex, toIndex, c, work, 0, workLen);
+    }
+
+    /**
+     * Sorts the specified array of objects into ascending order of the
+     * {@code long} keys extracted from them.  The key of each element is
+     * extracted once.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * @implNote This implementation extracts the keys into an array and
+     * sorts them, together with the original positions of the elements,
+     * using the radix sort described in {@link #radixSort(long[])}. The
+     * elements are then rearranged into the order of their keys. It requires
+     * temporary storage of about three times the length of the array, and is
+     * typically much faster than {@link #sort(Object[], Comparator)} with a
+     * comparator that compares extracted keys. Arrays shorter than a small
+     * threshold are sorted with such a comparator instead.
+     *
+     * @param <T> the class of the objects to be sorted
+     * @param a the array to be sorted
+     * @param keyExtractor the function used to extract the sort key of each
+     *        element
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @since 1.8
+     */
+    public static <T> void sortByKey(T[] a, ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        RadixSort.sort(a, 0, a.length, keyExtractor);
+    }
+
     /** To be removed in a future release. */
     private static <T> void legacyMergeSort(T[] a, int fromIndex, int toIndex,
                                             Comparator<? super T> c) {
@@ -30,8 +30,11 @@ import java.util.concurrent.CountedCompleter;
 /**
  * Helper utilities for the parallel sort methods in Arrays.parallelSort.
  *
- * For each primitive type, plus Object, we define a static class to
- * contain the Sorter and Merger implementations for that type:
+ * For each primitive type we define a static class to contain the
+ * Sorter and Merger implementations for that type.  (Object arrays are
+ * sorted by TimSort.parallelSort, which merges the natural runs that
+ * its sequential leaf sorts leave behind instead of always merging
+ * whole sub-arrays.)
  *
  * Sorter classes based mainly on CilkSort
  * <A href="http://supertech.lcs.mit.edu/cilk/"> Cilk</A>:
@@ -66,8 +69,8 @@ import java.util.concurrent.CountedCompleter;
  * The primitive class versions (FJByte... FJDouble) are
  * identical to each other except for type declarations.
  *
- * The base sequential sorts rely on non-public versions of TimSort,
- * ComparableTimSort, and DualPivotQuicksort sort methods that accept
+ * The base sequential sorts rely on non-public versions of the
+ * DualPivotQuicksort sort methods that accept
  * temp workspace array slices that we will have already allocated, so
  * avoids redundant allocation. (Except for DualPivotQuicksort byte[]
  * sort, that does not ever use a workspace array.)
@@ -108,128 +111,6 @@ import java.util.concurrent.CountedCompleter;
         }
     }
 
-    /** Object + Comparator support class */
-    static final class FJObject {
-        static final class Sorter<T> extends CountedCompleter<Void> {
-            static final long serialVersionUID = 2446542900576103244L;
-            final T[] a, w;
-            final int base, size, wbase, gran;
-            Comparator<? super T> comparator;
-            Sorter(CountedCompleter<?> par, T[] a, T[] w, int base, int size,
-                   int wbase, int gran,
-                   Comparator<? super T> comparator) {
-                super(par);
-                this.a = a; this.w = w; this.base = base; this.size = size;
-                this.wbase = wbase; this.gran = gran;
-                this.comparator = comparator;
-            }
-            public final void compute() {
-                CountedCompleter<?> s = this;
-                Comparator<? super T> c = this.comparator;
-                T[] a = this.a, w = this.w; // localize all params
-                int b = this.base, n = this.size, wb = this.wbase, g = this.gran;
-                while (n > g) {
-                    int h = n >>> 1, q = h >>> 1, u = h + q; // quartiles
-                    Relay fc = new Relay(new Merger<T>(s, w, a, wb, h,
-                                                       wb+h, n-h, b, g, c));
-                    Relay rc = new Relay(new Merger<T>(fc, a, w, b+h, q,
-                                                       b+u, n-u, wb+h, g, c));
-                    new Sorter<T>(rc, a, w, b+u, n-u, wb+u, g, c).fork();
-                    new Sorter<T>(rc, a, w, b+h, q, wb+h, g, c).fork();;
-                    Relay bc = new Relay(new Merger<T>(fc, a, w, b, q,
-                                                       b+q, h-q, wb, g, c));
-                    new Sorter<T>(bc, a, w, b+q, h-q, wb+q, g, c).fork();
-                    s = new EmptyCompleter(bc);
-                    n = q;
-                }
-                TimSort.sort(a, b, b + n, c, w, wb, n);
-                s.tryComplete();
-            }
-        }
-
-        static final class Merger<T> extends CountedCompleter<Void> {
-            static final long serialVersionUID = 2446542900576103244L;
-            final T[] a, w; // main and workspace arrays
-            final int lbase, lsize, rbase, rsize, wbase, gran;
-            Comparator<? super T> comparator;
-            Merger(CountedCompleter<?> par, T[] a, T[] w,
-                   int lbase, int lsize, int rbase,
-                   int rsize, int wbase, int gran,
-                   Comparator<? super T> comparator) {
-                super(par);
-                this.a = a; this.w = w;
-                this.lbase = lbase; this.lsize = lsize;
-                this.rbase = rbase; this.rsize = rsize;
-                this.wbase = wbase; this.gran = gran;
-                this.comparator = comparator;
-            }
-
-            public final void compute() {
-                Comparator<? super T> c = this.comparator;
-                T[] a = this.a, w = this.w; // localize all params
-                int lb = this.lbase, ln = this.lsize, rb = this.rbase,
-                    rn = this.rsize, k = this.wbase, g = this.gran;
-                if (a == null || w == null || lb < 0 || rb < 0 || k < 0 ||
-                    c == null)
-                    throw new IllegalStateException(); // hoist checks
-                for (int lh, rh;;) {  // split larger, find point in smaller
-                    if (ln >= rn) {
-                        if (ln <= g)
-                            break;
-                        rh = rn;
-                        T split = a[(lh = ln >>> 1) + lb];
-                        for (int lo = 0; lo < rh; ) {
-                            int rm = (lo + rh) >>> 1;
-                            if (c.compare(split, a[rm + rb]) <= 0)
-                                rh = rm;
-                            else
-                                lo = rm + 1;
-                        }
-                    }
-                    else {
-                        if (rn <= g)
-                            break;
-                        lh = ln;
-                        T split = a[(rh = rn >>> 1) + rb];
-                        for (int lo = 0; lo < lh; ) {
-                            int lm = (lo + lh) >>> 1;
-                            if (c.compare(split, a[lm + lb]) <= 0)
-                                lh = lm;
-                            else
-                                lo = lm + 1;
-                        }
-                    }
-                    Merger<T> m = new Merger<T>(this, a, w, lb + lh, ln - lh,
-                                                rb + rh, rn - rh,
-                                                k + lh + rh, g, c);
-                    rn = rh;
-                    ln = lh;
-                    addToPendingCount(1);
-                    m.fork();
-                }
-
-                int lf = lb + ln, rf = rb + rn; // index bounds
-                while (lb < lf && rb < rf) {
-                    T t, al, ar;
-                    if (c.compare((al = a[lb]), (ar = a[rb])) <= 0) {
-                        lb++; t = al;
-                    }
-                    else {
-                        rb++; t = ar;
-                    }
-                    w[k++] = t;
-                }
-                if (rb < rf)
-                    System.arraycopy(a, rb, w, k, rf - rb);
-                else if (lb < lf)
-                    System.arraycopy(a, lb, w, k, lf - lb);
-
-                tryComplete();
-            }
-
-        }
-    } // FJObject
-
     /** byte support class */
     static final class FJByte {
         static final class Sorter extends CountedCompleter<Void> {
@@ -88,8 +88,8 @@ class ComparableTimSort {
 
     /**
      * Temp storage for merges. A workspace array may optionally be
-     * provided in constructor, and if so will be used as long as it
-     * is big enough.
+     * provided in constructor, and if so will be used until a merge
+     * needs more space than it has.
      */
     private Object[] tmp;
     private int tmpBase; // base of tmp array slice
@@ -124,7 +124,7 @@ class ComparableTimSort {
         int len = a.length;
         int tlen = (len < 2 * INITIAL_TMP_STORAGE_LENGTH) ?
             len >>> 1 : INITIAL_TMP_STORAGE_LENGTH;
-        if (work == null || workLen < tlen || workBase + tlen > work.length) {
+        if (work == null || workLen == 0 || workBase + workLen > work.length) {
             tmp = new Object[tlen];
             tmpBase = 0;
             tmpLen = tlen;
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+/**
+ * An unbounded priority queue of elements with {@code double}
+ * priorities, based on a priority heap.  The <em>head</em> of the queue
+ * is an element with the least priority; ties are broken arbitrarily.
+ * Priorities are ordered as by {@link Double#compare}: {@code -0.0d} is
+ * less than {@code 0.0d}, and {@code Double.NaN} is greater than any
+ * other priority.  Elements may be of any type, including {@code null},
+ * and need not be comparable.
+ *
+ * <p>This class is a {@link LongPriorityQueue} whose priorities are
+ * {@code double} values; see that class for a description of the heap and
+ * its {@code arity}.  Each priority is stored as a {@code long} that
+ * orders the same way, so the heap compares priorities as integers.
+ *
+ * <p>Implementation note: this implementation provides O(log(n)) time
+ * for the enqueuing and dequeuing methods ({@code add} and {@code poll}),
+ * and constant time for the retrieval methods ({@code peek},
+ * {@code peekPriority} and {@code size}).
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * Multiple threads should not access a {@code DoublePriorityQueue}
+ * instance concurrently if any of the threads modifies the queue.
+ *
+ * @param <E> the type of elements held in this queue
+ *
+ * @see     PriorityQueue
+ * @see     IndexedDoublePriorityQueue
+ * @since   1.8
+ */
+public class DoublePriorityQueue<E> {
+
+    private final LongPriorityQueue<E> queue;
+
+    /**
+     * Creates a {@code DoublePriorityQueue} with the default initial
+     * capacity (11) and arity (4).
+     */
+    public DoublePriorityQueue() {
+        queue = new LongPriorityQueue<>();
+    }
+
+    /**
+     * Creates a {@code DoublePriorityQueue} with the specified initial
+     * capacity and the default arity (4).
+     *
+     * @param initialCapacity the initial capacity for this priority queue
+     * @throws IllegalArgumentException if {@code initialCapacity} is less
+     *         than 1
+     */
+    public DoublePriorityQueue(int initialCapacity) {
+        queue = new LongPriorityQueue<>(initialCapacity);
+    }
+
+    /**
+     * Creates a {@code DoublePriorityQueue} with the specified initial
+     * capacity whose heap nodes have the specified number of children.
+     *
+     * @param initialCapacity the initial capacity for this priority queue
+     * @param arity the number of children of each heap node, a power of
+     *        two from 2 to 16
+     * @throws IllegalArgumentException if {@code initialCapacity} is less
+     *         than 1, or if {@code arity} is not a power of two from 2
+     *         to 16
+     */
+    public DoublePriorityQueue(int initialCapacity, int arity) {
+        queue = new LongPriorityQueue<>(initialCapacity, arity);
+    }
+
+    /**
+     * Returns a {@code long} that compares to the key of any other
+     * {@code double} as {@code d} compares to it by {@link Double#compare}.
+     * Negative values have their magnitude bits flipped so that a larger
+     * magnitude gives a smaller key; all NaNs map to the key of the
+     * canonical NaN.
+     */
+    static long toKey(double d) {
+        long bits = Double.doubleToLongBits(d);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the {@code double} whose key is {@code key}; the inverse of
+     * {@link #toKey}.
+     */
+    static double fromKey(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * Inserts the specified element into this priority queue with the
+     * specified priority.
+     *
+     * @param priority the priority of the element
+     * @param e the element to add, possibly {@code null}
+     */
+    public void add(double priority, E e) {
+        queue.add(toKey(priority), e);
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns
+     * {@code null} if this queue is empty.  Since elements may be
+     * {@code null}, use {@link #isEmpty} to tell the two cases apart.
+     *
+     * @return the head of this queue, or {@code null} if this queue is
+     *         empty
+     */
+    public E peek() {
+        return queue.peek();
+    }
+
+    /**
+     * Returns the priority of the head of this queue, which is the least
+     * priority of the elements in this queue.
+     *
+     * @return the priority of the head of this queue
+     * @throws NoSuchElementException if this queue is empty
+     */
+    public double peekPriority() {
+        return fromKey(queue.peekPriority());
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns
+     * {@code null} if this queue is empty.  Since elements may be
+     * {@code null}, use {@link #isEmpty} to tell the two cases apart.
+     * To find the priority of the head, call {@link #peekPriority}
+     * first.
+     *
+     * @return the head of this queue, or {@code null} if this queue is
+     *         empty
+     */
+    public E poll() {
+        return queue.poll();
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Returns {@code true} if this queue contains no elements.
+     *
+     * @return {@code true} if this queue contains no elements
+     */
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Removes all of the elements from this priority queue.
+     * The queue will be empty after this call returns.
+     */
+    public void clear() {
+        queue.clear();
+    }
+}
@@ -47,8 +47,6 @@ import java.text.DateFormatSymbols;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import java.time.DateTimeException;
 import java.time.Instant;
@@ -2492,13 +2490,188 @@ public final class Formatter implements Closeable, Flushable {
      */
     public Formatter format(Locale l, String format, Object ... args) {
         ensureOpen();
+        format(l, parse(format), args);
+        return this;
+    }
+
+    /**
+     * Compiles the given format string into a reusable {@link Template}.
+     * The locale used is the {@linkplain Locale#getDefault(Locale.Category)
+     * default locale} for {@linkplain Locale.Category#FORMAT formatting} for
+     * this instance of the Java virtual machine.
+     *
+     * @param  format
+     *         A format string as described in <a href="#syntax">Format string
+     *         syntax</a>
+     *
+     * @throws  IllegalFormatException
+     *          If the format string contains an illegal syntax or a format
+     *          specifier that is illegal independently of its argument
+     *
+     * @return  The compiled format
+     *
+     * @since 1.8
+     */
+    public static Template compile(String format) {
+        return new Template(Locale.getDefault(Locale.Category.FORMAT), format);
+    }
+
+    /**
+     * Compiles the given format string into a reusable {@link Template}
+     * that formats using the specified locale.
+     *
+     * @param  l
+     *         The {@linkplain java.util.Locale locale} to apply during
+     *         formatting.  If {@code l} is {@code null} then no localization
+     *         is applied.
+     *
+     * @param  format
+     *         A format string as described in <a href="#syntax">Format string
+     *         syntax</a>
+     *
+     * @throws  IllegalFormatException
+     *          If the format string contains an illegal syntax or a format
+     *          specifier that is illegal independently of its argument
+     *
+     * @return  The compiled format
+     *
+     * @since 1.8
+     */
+    public static Template compile(Locale l, String format) {
+        return new Template(l, format);
+    }
+
+    /**
+     * A format string that has been parsed once so that it can be applied
+     * repeatedly to different arguments.  Applying a template is
+     * equivalent to invoking {@link Formatter#format(Locale,String,Object...)
+     * format} on a formatter whose destination is the given {@code
+     * StringBuilder}, but the format string is not parsed again and no
+     * formatter is created for each invocation.
+     *
+     * <p> Templates are immutable and safe for use by multiple concurrent
+     * threads.  For example:
+     *
+     * <blockquote><pre>
+     *   static final Formatter.Template ENTRY =
+     *       Formatter.compile("%-10s %08x %,d%n");
+     *
+     *   ENTRY.formatTo(sb, name, id, count);
+     * </pre></blockquote>
+     *
+     * @see Formatter#compile(Locale,String)
+     * @since 1.8
+     */
+    public static final class Template {
+        private final Locale l;
+        private final String format;
+
+        // The parsed format specifiers are inner objects of the formatter
+        // that prints them, so each thread has its own formatter whose
+        // destination is set for the duration of each invocation.
+        private final ThreadLocal<Bound> bound;
+
+        private static final class Bound {
+            final Formatter fmt;
+            final FormatString[] fsa;
+            boolean busy;
+
+            Bound(Locale l, String format) {
+                fmt = new Formatter(l, (Appendable) null);
+                fsa = fmt.parse(format);
+            }
+        }
+
+        Template(Locale l, String format) {
+            this.l = l;
+            this.format = Objects.requireNonNull(format);
+            Bound first = new Bound(l, format);
+            this.bound = ThreadLocal.withInitial(() -> new Bound(l, format));
+            this.bound.set(first);
+        }
+
+        /**
+         * Appends the formatted arguments to the given string builder.
+         *
+         * @param  sb
+         *         The destination for the formatted output
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers in the
+         *         format string, as for {@link Formatter#format(String,
+         *         Object...) Formatter.format}
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments or there are insufficient arguments
+         *
+         * @return  The string builder
+         */
+        public StringBuilder formatTo(StringBuilder sb, Object ... args) {
+            Objects.requireNonNull(sb);
+            Bound b = bound.get();
+            if (b.busy) {
+                // Applied recursively, e.g. by an argument's toString()
+                b = new Bound(l, format);
+            }
+            Formatter fmt = b.fmt;
+            b.busy = true;
+            try {
+                fmt.a = sb;
+                fmt.format(l, b.fsa, args);
+            } finally {
+                fmt.a = null;
+                b.busy = false;
+            }
+            return sb;
+        }
+
+        /**
+         * Returns the formatted arguments as a string.
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers in the
+         *         format string
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments or there are insufficient arguments
+         *
+         * @return  The formatted string
+         */
+        public String format(Object ... args) {
+            return formatTo(new StringBuilder(), args).toString();
+        }
+
+        /**
+         * Returns the locale applied by this template.
+         *
+         * @return  {@code null} if no localization is applied, otherwise a
+         *          locale
+         */
+        public Locale locale() {
+            return l;
+        }
 
+        /**
+         * Returns the format string from which this template was compiled.
+         *
+         * @return  The format string
+         */
+        public String toString() {
+            return format;
+        }
+    }
+
+    /**
+     * Prints the parsed format string to this formatter's destination.
+     */
+    private void format(Locale l, FormatString[] fsa, Object[] args) {
         // index of last argument referenced
         int last = -1;
         // last ordinary index
         int lasto = -1;
 
-        FormatString[] fsa = parse(format);
         for (int i = 0; i < fsa.length; i++) {
             FormatString fs = fsa[i];
             int index = fs.index();
@@ -2530,55 +2703,109 @@ public final class Formatter implements Closeable, Flushable {
                 lastException = x;
             }
         }
-        return this;
     }
 
-    // %[argument_index$][flags][width][.precision][t]conversion
-    private static final String formatSpecifier
-        = "%(\\d+\\$)?([-#+ 0,(\\<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])";
-
-    private static Pattern fsPattern = Pattern.compile(formatSpecifier);
-
     /**
      * Finds format specifiers in the format string.
+     *
+     * <p> Each '%' must begin a format specifier of the form
+     * <pre>
+     *     %[argument_index$][flags][width][.precision][t]conversion
+     * </pre>
+     * which is recognized by hand rather than by a regular expression, as
+     * this method is invoked for every format string.
      */
     private FormatString[] parse(String s) {
         ArrayList<FormatString> al = new ArrayList<>();
-        Matcher m = fsPattern.matcher(s);
-        for (int i = 0, len = s.length(); i < len; ) {
-            if (m.find(i)) {
-                // Anything between the start of the string and the beginning
-                // of the format specifier is either fixed text or contains
-                // an invalid format string.
-                if (m.start() != i) {
-                    // Make sure we didn't miss any invalid format specifiers
-                    checkText(s, i, m.start());
-                    // Assume previous characters were fixed text
-                    al.add(new FixedString(s.substring(i, m.start())));
-                }
-
-                al.add(new FormatSpecifier(m));
-                i = m.end();
-            } else {
-                // No more valid format specifiers.  Check for possible invalid
-                // format specifiers.
-                checkText(s, i, len);
+        int len = s.length();
+        for (int i = 0; i < len; ) {
+            int pct = s.indexOf('%', i);
+            if (pct < 0) {
                 // The rest of the string is fixed text
                 al.add(new FixedString(s.substring(i)));
                 break;
             }
+            if (pct != i)
+                al.add(new FixedString(s.substring(i, pct)));
+            i = parseSpecifier(s, pct, al);
         }
         return al.toArray(new FormatString[al.size()]);
     }
 
-    private static void checkText(String s, int start, int end) {
-        for (int i = start; i < end; i++) {
-            // Any '%' found in the region starts an invalid format specifier.
-            if (s.charAt(i) == '%') {
-                char c = (i == end - 1) ? '%' : s.charAt(i + 1);
-                throw new UnknownFormatConversionException(String.valueOf(c));
+    /**
+     * Parses the format specifier beginning with the '%' at the given
+     * index, adds it to the list, and returns the index following it.
+     */
+    private int parseSpecifier(String s, int start, List<FormatString> al) {
+        int len = s.length();
+        int i = start + 1;
+
+        String index = null;
+        int j = skipDigits(s, i);
+        if (j > i && j < len && s.charAt(j) == '$') {
+            index = s.substring(i, j + 1);
+            i = j + 1;
+        }
+
+        j = i;
+        while (j < len && isFlag(s.charAt(j)))
+            j++;
+        String flags = s.substring(i, j);
+        i = j;
+
+        String width = null;
+        j = skipDigits(s, i);
+        if (j > i) {
+            width = s.substring(i, j);
+            i = j;
+        }
+
+        String precision = null;
+        if (i < len && s.charAt(i) == '.') {
+            j = skipDigits(s, i + 1);
+            if (j > i + 1) {
+                precision = s.substring(i, j);
+                i = j;
             }
         }
+
+        String tT = null;
+        if (i + 1 < len && (s.charAt(i) == 't' || s.charAt(i) == 'T')
+            && isConversion(s.charAt(i + 1))) {
+            tT = s.substring(i, i + 1);
+            i++;
+        }
+
+        if (i < len && isConversion(s.charAt(i))) {
+            al.add(new FormatSpecifier(index, flags, width, precision, tT,
+                                       s.charAt(i)));
+            return i + 1;
+        }
+
+        // Not a valid format specifier
+        char c = (start == len - 1) ? '%' : s.charAt(start + 1);
+        throw new UnknownFormatConversionException(String.valueOf(c));
+    }
+
+    private static int skipDigits(String s, int i) {
+        int len = s.length();
+        while (i < len && s.charAt(i) >= '0' && s.charAt(i) <= '9')
+            i++;
+        return i;
+    }
+
+    private static boolean isFlag(char c) {
+        switch (c) {
+        case '-': case '#': case '+': case ' ':
+        case '0': case ',': case '(': case '<':
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static boolean isConversion(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '%';
     }
 
     private interface FormatString {
@@ -2684,8 +2911,8 @@ public final class Formatter implements Closeable, Flushable {
             return precision;
         }
 
-        private char conversion(String s) {
-            c = s.charAt(0);
+        private char conversion(char conv) {
+            c = conv;
             if (!dt) {
                 if (!Conversion.isValid(c))
                     throw new UnknownFormatConversionException(String.valueOf(c));
@@ -2702,22 +2929,20 @@ public final class Formatter implements Closeable, Flushable {
             return c;
         }
 
-        FormatSpecifier(Matcher m) {
-            int idx = 1;
-
-            index(m.group(idx++));
-            flags(m.group(idx++));
-            width(m.group(idx++));
-            precision(m.group(idx++));
+        FormatSpecifier(String index, String flags, String width,
+                        String precision, String tT, char conversion) {
+            index(index);
+            flags(flags);
+            width(width);
+            precision(precision);
 
-            String tT = m.group(idx++);
             if (tT != null) {
                 dt = true;
                 if (tT.equals("T"))
                     f.add(Flags.UPPERCASE);
             }
 
-            conversion(m.group(idx));
+            conversion(conversion);
 
             if (dt)
                 checkDateTime();
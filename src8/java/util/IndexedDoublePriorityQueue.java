@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+/**
+ * A priority queue of the {@code int} elements {@code 0} through
+ * {@code capacity - 1}, each queued at most once with a {@code double}
+ * priority, that can find and reprioritize a queued element.  The
+ * <em>head</em> of the queue is an element with the least priority; ties
+ * are broken arbitrarily.  Priorities are ordered as by
+ * {@link Double#compare}: {@code -0.0d} is less than {@code 0.0d}, and
+ * {@code Double.NaN} is greater than any other priority.
+ *
+ * <p>This class is an {@link IndexedLongPriorityQueue} whose priorities
+ * are {@code double} values, such as the tentative distances of a
+ * shortest-path search over a graph with real edge weights; see that
+ * class for a description of its operations and the heap.  Each priority
+ * is stored as a {@code long} that orders the same way, so the heap
+ * compares priorities as integers.
+ *
+ * <p>Implementation note: this implementation provides O(log(n)) time
+ * for {@code add}, {@code poll}, {@code remove}, {@code decreasePriority}
+ * and {@code changePriority}, and constant time for {@code contains},
+ * {@code priority}, {@code peek}, {@code peekPriority} and {@code size}.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * Multiple threads should not access an {@code IndexedDoublePriorityQueue}
+ * instance concurrently if any of the threads modifies the queue.
+ *
+ * @see     DoublePriorityQueue
+ * @see     IndexedLongPriorityQueue
+ * @since   1.8
+ */
+public class IndexedDoublePriorityQueue {
+
+    private final IndexedLongPriorityQueue queue;
+
+    /**
+     * Creates an empty {@code IndexedDoublePriorityQueue} for the elements
+     * {@code 0} through {@code capacity - 1} with the default arity (4).
+     *
+     * @param capacity the number of distinct elements
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public IndexedDoublePriorityQueue(int capacity) {
+        queue = new IndexedLongPriorityQueue(capacity);
+    }
+
+    /**
+     * Creates an empty {@code IndexedDoublePriorityQueue} for the elements
+     * {@code 0} through {@code capacity - 1} whose heap nodes have the
+     * specified number of children.
+     *
+     * @param capacity the number of distinct elements
+     * @param arity the number of children of each heap node, a power of
+     *        two from 2 to 16
+     * @throws IllegalArgumentException if {@code capacity} is negative,
+     *         or if {@code arity} is not a power of two from 2 to 16
+     */
+    public IndexedDoublePriorityQueue(int capacity, int arity) {
+        queue = new IndexedLongPriorityQueue(capacity, arity);
+    }
+
+    /**
+     * Returns the number of distinct elements this queue can hold; the
+     * elements are {@code 0} through {@code capacity() - 1}.
+     *
+     * @return the capacity of this queue
+     */
+    public int capacity() {
+        return queue.capacity();
+    }
+
+    /**
+     * Inserts the specified element into this priority queue with the
+     * specified priority.
+     *
+     * @param e the element to add
+     * @param priority the priority of the element
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws IllegalArgumentException if {@code e} is already queued
+     */
+    public void add(int e, double priority) {
+        queue.add(e, DoublePriorityQueue.toKey(priority));
+    }
+
+    /**
+     * Returns {@code true} if the specified element is queued.
+     *
+     * @param e the element
+     * @return {@code true} if {@code e} is queued
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     */
+    public boolean contains(int e) {
+        return queue.contains(e);
+    }
+
+    /**
+     * Returns the priority of the specified queued element.
+     *
+     * @param e the element
+     * @return the priority of {@code e}
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws NoSuchElementException if {@code e} is not queued
+     */
+    public double priority(int e) {
+        return DoublePriorityQueue.fromKey(queue.priority(e));
+    }
+
+    /**
+     * Lowers the priority of the specified queued element.
+     *
+     * @param e the element
+     * @param priority the new priority of the element, which must not be
+     *        greater than its current priority
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws NoSuchElementException if {@code e} is not queued
+     * @throws IllegalArgumentException if {@code priority} is greater than
+     *         the current priority of {@code e}
+     */
+    public void decreasePriority(int e, double priority) {
+        queue.decreasePriority(e, DoublePriorityQueue.toKey(priority));
+    }
+
+    /**
+     * Changes the priority of the specified queued element.
+     *
+     * @param e the element
+     * @param priority the new priority of the element
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws NoSuchElementException if {@code e} is not queued
+     */
+    public void changePriority(int e, double priority) {
+        queue.changePriority(e, DoublePriorityQueue.toKey(priority));
+    }
+
+    /**
+     * Removes the specified element from this queue, if it is queued.
+     *
+     * @param e the element to remove
+     * @return {@code true} if {@code e} was queued
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     */
+    public boolean remove(int e) {
+        return queue.remove(e);
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns
+     * {@code -1} if this queue is empty.
+     *
+     * @return the head of this queue, or {@code -1} if this queue is empty
+     */
+    public int peek() {
+        return queue.peek();
+    }
+
+    /**
+     * Returns the priority of the head of this queue, which is the least
+     * priority of the elements in this queue.
+     *
+     * @return the priority of the head of this queue
+     * @throws NoSuchElementException if this queue is empty
+     */
+    public double peekPriority() {
+        return DoublePriorityQueue.fromKey(queue.peekPriority());
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code -1}
+     * if this queue is empty.  To find the priority of the head, call
+     * {@link #peekPriority} first.
+     *
+     * @return the head of this queue, or {@code -1} if this queue is empty
+     */
+    public int poll() {
+        return queue.poll();
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Returns {@code true} if this queue contains no elements.
+     *
+     * @return {@code true} if this queue contains no elements
+     */
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Removes all of the elements from this priority queue.
+     * The queue will be empty after this call returns.
+     */
+    public void clear() {
+        queue.clear();
+    }
+}
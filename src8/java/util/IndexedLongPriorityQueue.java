@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+/**
+ * A priority queue of the {@code int} elements {@code 0} through
+ * {@code capacity - 1}, each queued at most once with a {@code long}
+ * priority, that can find and reprioritize a queued element.  The
+ * <em>head</em> of the queue is an element with the least priority; ties
+ * are broken arbitrarily.
+ *
+ * <p>Besides adding an element and removing the head, the queue can look
+ * up the priority of any queued element, remove it, and change its
+ * priority in place, in particular {@linkplain #decreasePriority lower}
+ * it (the <i>decrease-key</i> operation).  This suits algorithms that
+ * keep a priority per numbered item and revise it as they go, such as
+ * shortest-path searches over the vertices of a graph or schedulers over
+ * a fixed set of tasks: each item is queued once instead of once per
+ * revision, and no element or priority is boxed.
+ *
+ * <p>The queue is a d-ary heap, as described in {@link LongPriorityQueue},
+ * plus an array of {@code capacity} ints recording the heap position of
+ * each element.  The heap itself grows as elements are added.
+ *
+ * <p>Implementation note: this implementation provides O(log(n)) time
+ * for {@code add}, {@code poll}, {@code remove}, {@code decreasePriority}
+ * and {@code changePriority}, and constant time for {@code contains},
+ * {@code priority}, {@code peek}, {@code peekPriority} and {@code size}.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * Multiple threads should not access an {@code IndexedLongPriorityQueue}
+ * instance concurrently if any of the threads modifies the queue.
+ *
+ * @see     LongPriorityQueue
+ * @see     IndexedDoublePriorityQueue
+ * @since   1.8
+ */
+public class IndexedLongPriorityQueue {
+
+    private static final int DEFAULT_ARITY = 4;
+
+    /** The initial length of the heap arrays, if capacity permits. */
+    private static final int INITIAL_HEAP_LENGTH = 16;
+
+    /**
+     * The heap, as in LongPriorityQueue: the element at node n is
+     * elements[n] and its priority is priorities[n], and for each node n
+     * and each descendant d of n, priorities[n] <= priorities[d].
+     */
+    private long[] priorities;
+    private int[] elements;
+
+    /**
+     * The heap position of each element, or -1 if it is not queued:
+     * elements[positions[e]] == e for each queued element e.
+     */
+    private final int[] positions;
+
+    /**
+     * The number of elements in the priority queue.
+     */
+    private int size;
+
+    /** The number of children of each node, a power of two. */
+    private final int arity;
+
+    /** log2(arity). */
+    private final int shift;
+
+    /**
+     * Creates an empty {@code IndexedLongPriorityQueue} for the elements
+     * {@code 0} through {@code capacity - 1} with the default arity (4).
+     *
+     * @param capacity the number of distinct elements
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public IndexedLongPriorityQueue(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty {@code IndexedLongPriorityQueue} for the elements
+     * {@code 0} through {@code capacity - 1} whose heap nodes have the
+     * specified number of children.
+     *
+     * @param capacity the number of distinct elements
+     * @param arity the number of children of each heap node, a power of
+     *        two from 2 to 16
+     * @throws IllegalArgumentException if {@code capacity} is negative,
+     *         or if {@code arity} is not a power of two from 2 to 16
+     */
+    public IndexedLongPriorityQueue(int capacity, int arity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        this.shift = LongPriorityQueue.shiftFor(arity);
+        this.arity = arity;
+        int n = Math.min(capacity, INITIAL_HEAP_LENGTH);
+        this.priorities = new long[n];
+        this.elements = new int[n];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Returns the number of distinct elements this queue can hold; the
+     * elements are {@code 0} through {@code capacity() - 1}.
+     *
+     * @return the capacity of this queue
+     */
+    public int capacity() {
+        return positions.length;
+    }
+
+    private void checkElement(int e) {
+        if (e < 0 || e >= positions.length)
+            throw new IndexOutOfBoundsException("Element: " + e +
+                                                ", Capacity: " + positions.length);
+    }
+
+    /**
+     * Returns the heap position of e, which must be queued.
+     */
+    private int positionOf(int e) {
+        checkElement(e);
+        int k = positions[e];
+        if (k < 0)
+            throw new NoSuchElementException("Element not queued: " + e);
+        return k;
+    }
+
+    /**
+     * Increases the capacity of the heap arrays, up to the number of
+     * elements.
+     */
+    private void grow() {
+        int oldLength = priorities.length;
+        // Double size if small; else grow by 50%
+        int newLength = oldLength + ((oldLength < 64) ?
+                                     (oldLength + 2) :
+                                     (oldLength >> 1));
+        // overflow-conscious code
+        if (newLength - positions.length > 0 || newLength < 0)
+            newLength = positions.length;
+        priorities = Arrays.copyOf(priorities, newLength);
+        elements = Arrays.copyOf(elements, newLength);
+    }
+
+    /**
+     * Inserts the specified element into this priority queue with the
+     * specified priority.
+     *
+     * @param e the element to add
+     * @param priority the priority of the element
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws IllegalArgumentException if {@code e} is already queued
+     */
+    public void add(int e, long priority) {
+        checkElement(e);
+        if (positions[e] >= 0)
+            throw new IllegalArgumentException("Element already queued: " + e);
+        int i = size;
+        if (i >= priorities.length)
+            grow();
+        size = i + 1;
+        siftUp(i, priority, e);
+    }
+
+    /**
+     * Returns {@code true} if the specified element is queued.
+     *
+     * @param e the element
+     * @return {@code true} if {@code e} is queued
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     */
+    public boolean contains(int e) {
+        checkElement(e);
+        return positions[e] >= 0;
+    }
+
+    /**
+     * Returns the priority of the specified queued element.
+     *
+     * @param e the element
+     * @return the priority of {@code e}
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws NoSuchElementException if {@code e} is not queued
+     */
+    public long priority(int e) {
+        return priorities[positionOf(e)];
+    }
+
+    /**
+     * Lowers the priority of the specified queued element.
+     *
+     * @param e the element
+     * @param priority the new priority of the element, which must not be
+     *        greater than its current priority
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws NoSuchElementException if {@code e} is not queued
+     * @throws IllegalArgumentException if {@code priority} is greater than
+     *         the current priority of {@code e}
+     */
+    public void decreasePriority(int e, long priority) {
+        int k = positionOf(e);
+        if (priority > priorities[k])
+            throw new IllegalArgumentException("Priority increased: " +
+                                               priorities[k] + " -> " + priority);
+        siftUp(k, priority, e);
+    }
+
+    /**
+     * Changes the priority of the specified queued element.
+     *
+     * @param e the element
+     * @param priority the new priority of the element
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     * @throws NoSuchElementException if {@code e} is not queued
+     */
+    public void changePriority(int e, long priority) {
+        int k = positionOf(e);
+        if (priority < priorities[k])
+            siftUp(k, priority, e);
+        else
+            siftDown(k, priority, e);
+    }
+
+    /**
+     * Removes the specified element from this queue, if it is queued.
+     *
+     * @param e the element to remove
+     * @return {@code true} if {@code e} was queued
+     * @throws IndexOutOfBoundsException if {@code e} is negative or not
+     *         less than the capacity of this queue
+     */
+    public boolean remove(int e) {
+        checkElement(e);
+        int k = positions[e];
+        if (k < 0)
+            return false;
+        removeAt(k);
+        return true;
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns
+     * {@code -1} if this queue is empty.
+     *
+     * @return the head of this queue, or {@code -1} if this queue is empty
+     */
+    public int peek() {
+        return (size == 0) ? -1 : elements[0];
+    }
+
+    /**
+     * Returns the priority of the head of this queue, which is the least
+     * priority of the elements in this queue.
+     *
+     * @return the priority of the head of this queue
+     * @throws NoSuchElementException if this queue is empty
+     */
+    public long peekPriority() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return priorities[0];
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code -1}
+     * if this queue is empty.  To find the priority of the head, call
+     * {@link #peekPriority} first.
+     *
+     * @return the head of this queue, or {@code -1} if this queue is empty
+     */
+    public int poll() {
+        if (size == 0)
+            return -1;
+        int result = elements[0];
+        removeAt(0);
+        return result;
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this queue contains no elements.
+     *
+     * @return {@code true} if this queue contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this priority queue.
+     * The queue will be empty after this call returns.
+     */
+    public void clear() {
+        int[] es = elements;
+        for (int i = 0; i < size; i++)
+            positions[es[i]] = -1;
+        size = 0;
+    }
+
+    /**
+     * Removes the element at heap position k.
+     */
+    private void removeAt(int k) {
+        int[] es = elements;
+        positions[es[k]] = -1;
+        int s = --size;
+        if (s != k) {
+            long p = priorities[s];
+            int x = es[s];
+            siftDown(k, p, x);
+            if (es[k] == x)
+                siftUp(k, p, x);
+        }
+    }
+
+    /**
+     * Inserts element x with priority p at position k, maintaining heap
+     * invariant by promoting x up the tree until it is greater than or
+     * equal to its parent, or is the root.
+     *
+     * @param k the position to fill
+     * @param p the priority of the element to insert
+     * @param x the element to insert
+     */
+    private void siftUp(int k, long p, int x) {
+        long[] ps = priorities;
+        int[] es = elements, pos = positions;
+        int shift = this.shift;
+        while (k > 0) {
+            int parent = (k - 1) >>> shift;
+            long pp = ps[parent];
+            if (p >= pp)
+                break;
+            int e = es[parent];
+            ps[k] = pp;
+            es[k] = e;
+            pos[e] = k;
+            k = parent;
+        }
+        ps[k] = p;
+        es[k] = x;
+        pos[x] = k;
+    }
+
+    /**
+     * Inserts element x with priority p at position k, maintaining heap
+     * invariant by demoting x down the tree repeatedly until it is less
+     * than or equal to its children or is a leaf.
+     *
+     * @param k the position to fill
+     * @param p the priority of the element to insert
+     * @param x the element to insert
+     */
+    private void siftDown(int k, long p, int x) {
+        long[] ps = priorities;
+        int[] es = elements, pos = positions;
+        int n = size, shift = this.shift, arity = this.arity;
+        int last = (n - 2) >> shift;   // last node with a child
+        while (k <= last) {
+            int child = (k << shift) + 1;
+            int end = (n - child > arity) ? child + arity : n;
+            long cp = ps[child];
+            for (int i = child + 1; i < end; i++) {
+                long q = ps[i];
+                if (q < cp) {
+                    cp = q;
+                    child = i;
+                }
+            }
+            if (p <= cp)
+                break;
+            int e = es[child];
+            ps[k] = cp;
+            es[k] = e;
+            pos[e] = k;
+            k = child;
+        }
+        ps[k] = p;
+        es[k] = x;
+        pos[x] = k;
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+/**
+ * An unbounded priority queue of elements with {@code long} priorities,
+ * based on a priority heap.  The <em>head</em> of the queue is an element
+ * with the least priority; ties are broken arbitrarily.  Elements may be
+ * of any type, including {@code null}, and need not be comparable.
+ *
+ * <p>Unlike a {@link PriorityQueue} of elements that carry their own
+ * priority, this class keeps the priorities in a {@code long} array that
+ * parallels the array of elements, so that adding an element does not
+ * box its priority and the heap is ordered without calling a comparator
+ * or touching the elements themselves.
+ *
+ * <p>The heap is <i>d-ary</i>: every node has up to {@code arity}
+ * children, two as in {@code PriorityQueue} or, by default, four.  A
+ * wider heap is shallower, so adding an element takes fewer steps, and
+ * the children of a node lie next to each other in memory, so removing
+ * the head touches fewer cache lines than a binary heap of the same size
+ * even though it makes more comparisons per level.
+ *
+ * <p>Implementation note: this implementation provides O(log(n)) time
+ * for the enqueuing and dequeuing methods ({@code add} and {@code poll}),
+ * and constant time for the retrieval methods ({@code peek},
+ * {@code peekPriority} and {@code size}).
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * Multiple threads should not access a {@code LongPriorityQueue}
+ * instance concurrently if any of the threads modifies the queue.
+ *
+ * @param <E> the type of elements held in this queue
+ *
+ * @see     PriorityQueue
+ * @see     IndexedLongPriorityQueue
+ * @since   1.8
+ */
+public class LongPriorityQueue<E> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 11;
+
+    private static final int DEFAULT_ARITY = 4;
+
+    /** The largest supported arity. */
+    private static final int MAX_ARITY = 16;
+
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Priority queue represented as a balanced d-ary heap: the children
+     * of node n are nodes (n << shift) + 1 through (n << shift) + arity,
+     * and its parent is node (n - 1) >>> shift.  The priority of node n
+     * is priorities[n] and its element is elements[n].  For each node n
+     * in the heap and each descendant d of n, priorities[n] <=
+     * priorities[d].
+     */
+    private long[] priorities;
+    private Object[] elements;
+
+    /**
+     * The number of elements in the priority queue.
+     */
+    private int size;
+
+    /** The number of children of each node, a power of two. */
+    private final int arity;
+
+    /** log2(arity). */
+    private final int shift;
+
+    /**
+     * Creates a {@code LongPriorityQueue} with the default initial
+     * capacity (11) and arity (4).
+     */
+    public LongPriorityQueue() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} with the specified initial
+     * capacity and the default arity (4).
+     *
+     * @param initialCapacity the initial capacity for this priority queue
+     * @throws IllegalArgumentException if {@code initialCapacity} is less
+     *         than 1
+     */
+    public LongPriorityQueue(int initialCapacity) {
+        this(initialCapacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} with the specified initial
+     * capacity whose heap nodes have the specified number of children.
+     *
+     * @param initialCapacity the initial capacity for this priority queue
+     * @param arity the number of children of each heap node, a power of
+     *        two from 2 to 16
+     * @throws IllegalArgumentException if {@code initialCapacity} is less
+     *         than 1, or if {@code arity} is not a power of two from 2
+     *         to 16
+     */
+    public LongPriorityQueue(int initialCapacity, int arity) {
+        if (initialCapacity < 1)
+            throw new IllegalArgumentException();
+        this.shift = shiftFor(arity);
+        this.arity = arity;
+        this.priorities = new long[initialCapacity];
+        this.elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Returns log2(arity), checking that arity is a supported power of two.
+     */
+    static int shiftFor(int arity) {
+        if (arity < 2 || arity > MAX_ARITY || (arity & (arity - 1)) != 0)
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        return Integer.numberOfTrailingZeros(arity);
+    }
+
+    /**
+     * Increases the capacity of the arrays.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        int oldCapacity = priorities.length;
+        // Double size if small; else grow by 50%
+        int newCapacity = oldCapacity + ((oldCapacity < 64) ?
+                                         (oldCapacity + 2) :
+                                         (oldCapacity >> 1));
+        // overflow-conscious code
+        if (newCapacity - MAX_ARRAY_SIZE > 0)
+            newCapacity = hugeCapacity(minCapacity);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    private static int hugeCapacity(int minCapacity) {
+        if (minCapacity < 0) // overflow
+            throw new OutOfMemoryError();
+        return (minCapacity > MAX_ARRAY_SIZE) ?
+            Integer.MAX_VALUE :
+            MAX_ARRAY_SIZE;
+    }
+
+    /**
+     * Inserts the specified element into this priority queue with the
+     * specified priority.
+     *
+     * @param priority the priority of the element
+     * @param e the element to add, possibly {@code null}
+     */
+    public void add(long priority, E e) {
+        int i = size;
+        if (i >= priorities.length)
+            grow(i + 1);
+        size = i + 1;
+        if (i == 0) {
+            priorities[0] = priority;
+            elements[0] = e;
+        } else
+            siftUp(i, priority, e);
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns
+     * {@code null} if this queue is empty.  Since elements may be
+     * {@code null}, use {@link #isEmpty} to tell the two cases apart.
+     *
+     * @return the head of this queue, or {@code null} if this queue is
+     *         empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        return (size == 0) ? null : (E) elements[0];
+    }
+
+    /**
+     * Returns the priority of the head of this queue, which is the least
+     * priority of the elements in this queue.
+     *
+     * @return the priority of the head of this queue
+     * @throws NoSuchElementException if this queue is empty
+     */
+    public long peekPriority() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return priorities[0];
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns
+     * {@code null} if this queue is empty.  Since elements may be
+     * {@code null}, use {@link #isEmpty} to tell the two cases apart.
+     * To find the priority of the head, call {@link #peekPriority}
+     * first.
+     *
+     * @return the head of this queue, or {@code null} if this queue is
+     *         empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        if (size == 0)
+            return null;
+        int s = --size;
+        Object[] es = elements;
+        E result = (E) es[0];
+        long p = priorities[s];
+        Object x = es[s];
+        es[s] = null;
+        if (s != 0)
+            siftDown(0, p, x);
+        return result;
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this queue contains no elements.
+     *
+     * @return {@code true} if this queue contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this priority queue.
+     * The queue will be empty after this call returns.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Inserts item x with priority p at position k, maintaining heap
+     * invariant by promoting x up the tree until it is greater than or
+     * equal to its parent, or is the root.
+     *
+     * @param k the position to fill
+     * @param p the priority of the item to insert
+     * @param x the item to insert
+     */
+    private void siftUp(int k, long p, Object x) {
+        long[] ps = priorities;
+        Object[] es = elements;
+        int shift = this.shift;
+        while (k > 0) {
+            int parent = (k - 1) >>> shift;
+            long pp = ps[parent];
+            if (p >= pp)
+                break;
+            ps[k] = pp;
+            es[k] = es[parent];
+            k = parent;
+        }
+        ps[k] = p;
+        es[k] = x;
+    }
+
+    /**
+     * Inserts item x with priority p at position k, maintaining heap
+     * invariant by demoting x down the tree repeatedly until it is less
+     * than or equal to its children or is a leaf.
+     *
+     * @param k the position to fill
+     * @param p the priority of the item to insert
+     * @param x the item to insert
+     */
+    private void siftDown(int k, long p, Object x) {
+        long[] ps = priorities;
+        Object[] es = elements;
+        int n = size, shift = this.shift, arity = this.arity;
+        int last = (n - 2) >> shift;   // last node with a child
+        while (k <= last) {
+            int child = (k << shift) + 1;
+            int end = (n - child > arity) ? child + arity : n;
+            long cp = ps[child];
+            for (int i = child + 1; i < end; i++) {
+                long q = ps[i];
+                if (q < cp) {
+                    cp = q;
+                    child = i;
+                }
+            }
+            if (p <= cp)
+                break;
+            ps[k] = cp;
+            es[k] = es[child];
+            k = child;
+        }
+        ps[k] = p;
+        es[k] = x;
+    }
+}
@@ -0,0 +1,885 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class implements least-significant-digit radix sorts, and a
+ * parallel variant, for int, long, float and double arrays, and a
+ * stable radix sort of objects by extracted long keys.
+ *
+ * Each element is mapped to an unsigned key that orders like the element:
+ * the sign bit is flipped for integers, and for floating-point values the
+ * sign bit is flipped for positive values and all bits for negative ones,
+ * which puts -0.0 before 0.0 as Arrays.sort does.  NaNs are first moved
+ * to the end of the range, exactly as DualPivotQuicksort does, so the
+ * result is identical to that of Arrays.sort.
+ *
+ * The keys are sorted eight bits at a time, moving the elements back and
+ * forth between the array and a workspace of the same length.  The counts
+ * for all digits are gathered in a single pass, and a digit that is the
+ * same for every element is skipped, so narrow ranges of values take
+ * fewer passes.  Ranges shorter than RADIX_SORT_THRESHOLD are handed to
+ * DualPivotQuicksort.
+ *
+ * The parallel sort gathers the counts of chunks of the range in
+ * parallel, distributes the elements by the most significant digit that
+ * is not the same for every element, and then sorts the resulting
+ * buckets on the remaining digits as independent tasks in the ForkJoin
+ * common pool.
+ *
+ * All exposed methods are package-private, designed to be invoked
+ * from public methods (in class Arrays) after performing any
+ * necessary array bounds checks and expanding parameters into the
+ * required forms.
+ *
+ * @since 1.8
+ */
+final class RadixSort {
+
+    /**
+     * Prevents instantiation.
+     */
+    private RadixSort() {}
+
+    /*
+     * Tuning parameters.
+     */
+
+    /**
+     * The number of bits in a digit.
+     */
+    private static final int RADIX = 8;
+
+    /**
+     * The number of distinct digits.
+     */
+    private static final int BUCKETS = 1 << RADIX;
+
+    /**
+     * Mask of the lowest digit.
+     */
+    private static final int MASK = BUCKETS - 1;
+
+    /**
+     * If the length of a range to be sorted is less than this constant,
+     * DualPivotQuicksort (or TimSort, for objects) is used in preference
+     * to radix sort.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 1 << 9;
+
+    /**
+     * The minimum number of elements in each chunk of a parallel sort.
+     */
+    private static final int MIN_CHUNK = 1 << 13;
+
+    /*
+     * int arrays.
+     */
+
+    /**
+     * Sorts the specified range of the array using the given workspace
+     * array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     */
+    static void sort(int[] a, int from, int to, int[] work, int workBase) {
+        if (to - from < RADIX_SORT_THRESHOLD) {
+            DualPivotQuicksort.sort(a, from, to - 1, null, 0, 0);
+            return;
+        }
+        if (work == null) {
+            work = new int[to - from];
+            workBase = 0;
+        }
+        sort(a, from, work, workBase, to - from, 4, false);
+    }
+
+    /**
+     * Sorts n elements of src on their lowest digits, moving them between
+     * src and dst, and leaves the result in dst if toDst is true and in
+     * src otherwise.  The sort is stable.
+     */
+    private static void sort(int[] src, int srcBase, int[] dst, int dstBase,
+                             int n, int digits, boolean toDst) {
+        if (n < RADIX_SORT_THRESHOLD) {
+            if (toDst) {
+                System.arraycopy(src, srcBase, dst, dstBase, n);
+                src = dst;
+                srcBase = dstBase;
+            }
+            DualPivotQuicksort.sort(src, srcBase, srcBase + n - 1, null, 0, 0);
+            return;
+        }
+        int[] count = new int[digits << RADIX];
+        for (int i = srcBase, end = srcBase + n; i < end; i++) {
+            int v = src[i];
+            int k = (v ^ Integer.MIN_VALUE);
+            for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+                count[(d << RADIX) + ((k >>> shift) & MASK)]++;
+            }
+        }
+        int[] original = src;
+        for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+            int c = d << RADIX;
+            if (!toOffsets(count, c, n)) {
+                continue; // every element has the same digit
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                int v = src[i];
+                int k = (v ^ Integer.MIN_VALUE);
+                dst[dstBase + count[c + ((k >>> shift) & MASK)]++] = v;
+            }
+            int[] ta = src; src = dst; dst = ta;
+            int tb = srcBase; srcBase = dstBase; dstBase = tb;
+        }
+        if ((src == original) == toDst) {
+            System.arraycopy(src, srcBase, dst, dstBase, n);
+        }
+    }
+
+    /**
+     * Sorts the specified range of the array in parallel using the given
+     * workspace array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     * @param chunks the number of chunks to count in parallel
+     */
+    static void parallelSort(int[] a, int from, int to, int[] work, int workBase,
+                             int chunks) {
+        int n = to - from;
+        chunks = Math.min(chunks, n / MIN_CHUNK);
+        if (chunks <= 1) {
+            sort(a, from, to, work, workBase);
+            return;
+        }
+        if (work == null) {
+            work = new int[n];
+            workBase = 0;
+        }
+        int[] w = work;
+        int wb = workBase;
+
+        // Count all digits of each chunk
+        int size = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][4 << RADIX];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    int v = a[i];
+                    int k = (v ^ Integer.MIN_VALUE);
+                    for (int d = 0, shift = 0; d < 4; d++, shift += RADIX) {
+                        count[(d << RADIX) + ((k >>> shift) & MASK)]++;
+                    }
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Distribute by the most significant digit that varies
+        int d = topDigit(counts, 4, n);
+        if (d < 0) {
+            return; // all elements are equal
+        }
+        int shift = d * RADIX;
+        int[] start = scatterOffsets(counts, d << RADIX);
+        tasks.clear();
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            int base = d << RADIX;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    int v = a[i];
+                    int k = (v ^ Integer.MIN_VALUE);
+                    w[wb + count[base + ((k >>> shift) & MASK)]++] = v;
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Sort each bucket on the lower digits, back into the array
+        tasks.clear();
+        for (int b = 0; b < BUCKETS; b++) {
+            int lo = start[b], len = start[b + 1] - lo;
+            if (len > 0) {
+                tasks.add(ForkJoinTask.adapt(() ->
+                    sort(w, wb + lo, a, from + lo, len, d, true)));
+            }
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /*
+     * long arrays.
+     */
+
+    /**
+     * Sorts the specified range of the array using the given workspace
+     * array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     */
+    static void sort(long[] a, int from, int to, long[] work, int workBase) {
+        if (to - from < RADIX_SORT_THRESHOLD) {
+            DualPivotQuicksort.sort(a, from, to - 1, null, 0, 0);
+            return;
+        }
+        if (work == null) {
+            work = new long[to - from];
+            workBase = 0;
+        }
+        sort(a, from, work, workBase, to - from, 8, false);
+    }
+
+    /**
+     * Sorts n elements of src on their lowest digits, moving them between
+     * src and dst, and leaves the result in dst if toDst is true and in
+     * src otherwise.  The sort is stable.
+     */
+    private static void sort(long[] src, int srcBase, long[] dst, int dstBase,
+                             int n, int digits, boolean toDst) {
+        if (n < RADIX_SORT_THRESHOLD) {
+            if (toDst) {
+                System.arraycopy(src, srcBase, dst, dstBase, n);
+                src = dst;
+                srcBase = dstBase;
+            }
+            DualPivotQuicksort.sort(src, srcBase, srcBase + n - 1, null, 0, 0);
+            return;
+        }
+        int[] count = new int[digits << RADIX];
+        for (int i = srcBase, end = srcBase + n; i < end; i++) {
+            long v = src[i];
+            long k = (v ^ Long.MIN_VALUE);
+            for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+                count[(d << RADIX) + ((int) (k >>> shift) & MASK)]++;
+            }
+        }
+        long[] original = src;
+        for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+            int c = d << RADIX;
+            if (!toOffsets(count, c, n)) {
+                continue; // every element has the same digit
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                long v = src[i];
+                long k = (v ^ Long.MIN_VALUE);
+                dst[dstBase + count[c + ((int) (k >>> shift) & MASK)]++] = v;
+            }
+            long[] ta = src; src = dst; dst = ta;
+            int tb = srcBase; srcBase = dstBase; dstBase = tb;
+        }
+        if ((src == original) == toDst) {
+            System.arraycopy(src, srcBase, dst, dstBase, n);
+        }
+    }
+
+    /**
+     * Sorts the specified range of the array in parallel using the given
+     * workspace array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     * @param chunks the number of chunks to count in parallel
+     */
+    static void parallelSort(long[] a, int from, int to, long[] work, int workBase,
+                             int chunks) {
+        int n = to - from;
+        chunks = Math.min(chunks, n / MIN_CHUNK);
+        if (chunks <= 1) {
+            sort(a, from, to, work, workBase);
+            return;
+        }
+        if (work == null) {
+            work = new long[n];
+            workBase = 0;
+        }
+        long[] w = work;
+        int wb = workBase;
+
+        // Count all digits of each chunk
+        int size = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][8 << RADIX];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    long v = a[i];
+                    long k = (v ^ Long.MIN_VALUE);
+                    for (int d = 0, shift = 0; d < 8; d++, shift += RADIX) {
+                        count[(d << RADIX) + ((int) (k >>> shift) & MASK)]++;
+                    }
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Distribute by the most significant digit that varies
+        int d = topDigit(counts, 8, n);
+        if (d < 0) {
+            return; // all elements are equal
+        }
+        int shift = d * RADIX;
+        int[] start = scatterOffsets(counts, d << RADIX);
+        tasks.clear();
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            int base = d << RADIX;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    long v = a[i];
+                    long k = (v ^ Long.MIN_VALUE);
+                    w[wb + count[base + ((int) (k >>> shift) & MASK)]++] = v;
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Sort each bucket on the lower digits, back into the array
+        tasks.clear();
+        for (int b = 0; b < BUCKETS; b++) {
+            int lo = start[b], len = start[b + 1] - lo;
+            if (len > 0) {
+                tasks.add(ForkJoinTask.adapt(() ->
+                    sort(w, wb + lo, a, from + lo, len, d, true)));
+            }
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /*
+     * float arrays.
+     */
+
+    /**
+     * Returns the unsigned key of a float that is not NaN.
+     */
+    private static int key(float v) {
+        int bits = Float.floatToRawIntBits(v);
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+    /**
+     * Moves the NaNs in the range to its end, as DualPivotQuicksort does,
+     * and returns the index following the last element that is not NaN.
+     */
+    private static int moveNaNs(float[] a, int from, int to) {
+        int right = to - 1;
+        while (from <= right && Float.isNaN(a[right])) {
+            --right;
+        }
+        for (int k = right; --k >= from; ) {
+            float ak = a[k];
+            if (ak != ak) { // a[k] is NaN
+                a[k] = a[right];
+                a[right] = ak;
+                --right;
+            }
+        }
+        return right + 1;
+    }
+
+    /**
+     * Sorts the specified range of the array using the given workspace
+     * array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     */
+    static void sort(float[] a, int from, int to, float[] work, int workBase) {
+        to = moveNaNs(a, from, to);
+        if (to - from < RADIX_SORT_THRESHOLD) {
+            DualPivotQuicksort.sort(a, from, to - 1, null, 0, 0);
+            return;
+        }
+        if (work == null) {
+            work = new float[to - from];
+            workBase = 0;
+        }
+        sort(a, from, work, workBase, to - from, 4, false);
+    }
+
+    /**
+     * Sorts n elements of src on their lowest digits, moving them between
+     * src and dst, and leaves the result in dst if toDst is true and in
+     * src otherwise.  The sort is stable.
+     */
+    private static void sort(float[] src, int srcBase, float[] dst, int dstBase,
+                             int n, int digits, boolean toDst) {
+        if (n < RADIX_SORT_THRESHOLD) {
+            if (toDst) {
+                System.arraycopy(src, srcBase, dst, dstBase, n);
+                src = dst;
+                srcBase = dstBase;
+            }
+            DualPivotQuicksort.sort(src, srcBase, srcBase + n - 1, null, 0, 0);
+            return;
+        }
+        int[] count = new int[digits << RADIX];
+        for (int i = srcBase, end = srcBase + n; i < end; i++) {
+            float v = src[i];
+            int k = key(v);
+            for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+                count[(d << RADIX) + ((k >>> shift) & MASK)]++;
+            }
+        }
+        float[] original = src;
+        for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+            int c = d << RADIX;
+            if (!toOffsets(count, c, n)) {
+                continue; // every element has the same digit
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                float v = src[i];
+                int k = key(v);
+                dst[dstBase + count[c + ((k >>> shift) & MASK)]++] = v;
+            }
+            float[] ta = src; src = dst; dst = ta;
+            int tb = srcBase; srcBase = dstBase; dstBase = tb;
+        }
+        if ((src == original) == toDst) {
+            System.arraycopy(src, srcBase, dst, dstBase, n);
+        }
+    }
+
+    /**
+     * Sorts the specified range of the array in parallel using the given
+     * workspace array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     * @param chunks the number of chunks to count in parallel
+     */
+    static void parallelSort(float[] a, int from, int to, float[] work, int workBase,
+                             int chunks) {
+        to = moveNaNs(a, from, to);
+        int n = to - from;
+        chunks = Math.min(chunks, n / MIN_CHUNK);
+        if (chunks <= 1) {
+            sort(a, from, to, work, workBase);
+            return;
+        }
+        if (work == null) {
+            work = new float[n];
+            workBase = 0;
+        }
+        float[] w = work;
+        int wb = workBase;
+
+        // Count all digits of each chunk
+        int size = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][4 << RADIX];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    float v = a[i];
+                    int k = key(v);
+                    for (int d = 0, shift = 0; d < 4; d++, shift += RADIX) {
+                        count[(d << RADIX) + ((k >>> shift) & MASK)]++;
+                    }
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Distribute by the most significant digit that varies
+        int d = topDigit(counts, 4, n);
+        if (d < 0) {
+            return; // all elements are equal
+        }
+        int shift = d * RADIX;
+        int[] start = scatterOffsets(counts, d << RADIX);
+        tasks.clear();
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            int base = d << RADIX;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    float v = a[i];
+                    int k = key(v);
+                    w[wb + count[base + ((k >>> shift) & MASK)]++] = v;
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Sort each bucket on the lower digits, back into the array
+        tasks.clear();
+        for (int b = 0; b < BUCKETS; b++) {
+            int lo = start[b], len = start[b + 1] - lo;
+            if (len > 0) {
+                tasks.add(ForkJoinTask.adapt(() ->
+                    sort(w, wb + lo, a, from + lo, len, d, true)));
+            }
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /*
+     * double arrays.
+     */
+
+    /**
+     * Returns the unsigned key of a double that is not NaN.
+     */
+    private static long key(double v) {
+        long bits = Double.doubleToRawLongBits(v);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Moves the NaNs in the range to its end, as DualPivotQuicksort does,
+     * and returns the index following the last element that is not NaN.
+     */
+    private static int moveNaNs(double[] a, int from, int to) {
+        int right = to - 1;
+        while (from <= right && Double.isNaN(a[right])) {
+            --right;
+        }
+        for (int k = right; --k >= from; ) {
+            double ak = a[k];
+            if (ak != ak) { // a[k] is NaN
+                a[k] = a[right];
+                a[right] = ak;
+                --right;
+            }
+        }
+        return right + 1;
+    }
+
+    /**
+     * Sorts the specified range of the array using the given workspace
+     * array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     */
+    static void sort(double[] a, int from, int to, double[] work, int workBase) {
+        to = moveNaNs(a, from, to);
+        if (to - from < RADIX_SORT_THRESHOLD) {
+            DualPivotQuicksort.sort(a, from, to - 1, null, 0, 0);
+            return;
+        }
+        if (work == null) {
+            work = new double[to - from];
+            workBase = 0;
+        }
+        sort(a, from, work, workBase, to - from, 8, false);
+    }
+
+    /**
+     * Sorts n elements of src on their lowest digits, moving them between
+     * src and dst, and leaves the result in dst if toDst is true and in
+     * src otherwise.  The sort is stable.
+     */
+    private static void sort(double[] src, int srcBase, double[] dst, int dstBase,
+                             int n, int digits, boolean toDst) {
+        if (n < RADIX_SORT_THRESHOLD) {
+            if (toDst) {
+                System.arraycopy(src, srcBase, dst, dstBase, n);
+                src = dst;
+                srcBase = dstBase;
+            }
+            DualPivotQuicksort.sort(src, srcBase, srcBase + n - 1, null, 0, 0);
+            return;
+        }
+        int[] count = new int[digits << RADIX];
+        for (int i = srcBase, end = srcBase + n; i < end; i++) {
+            double v = src[i];
+            long k = key(v);
+            for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+                count[(d << RADIX) + ((int) (k >>> shift) & MASK)]++;
+            }
+        }
+        double[] original = src;
+        for (int d = 0, shift = 0; d < digits; d++, shift += RADIX) {
+            int c = d << RADIX;
+            if (!toOffsets(count, c, n)) {
+                continue; // every element has the same digit
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                double v = src[i];
+                long k = key(v);
+                dst[dstBase + count[c + ((int) (k >>> shift) & MASK)]++] = v;
+            }
+            double[] ta = src; src = dst; dst = ta;
+            int tb = srcBase; srcBase = dstBase; dstBase = tb;
+        }
+        if ((src == original) == toDst) {
+            System.arraycopy(src, srcBase, dst, dstBase, n);
+        }
+    }
+
+    /**
+     * Sorts the specified range of the array in parallel using the given
+     * workspace array slice, which is allocated if null.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param work a workspace array (slice) of at least {@code to - from}
+     *        elements, or null
+     * @param workBase origin of usable space in work array
+     * @param chunks the number of chunks to count in parallel
+     */
+    static void parallelSort(double[] a, int from, int to, double[] work, int workBase,
+                             int chunks) {
+        to = moveNaNs(a, from, to);
+        int n = to - from;
+        chunks = Math.min(chunks, n / MIN_CHUNK);
+        if (chunks <= 1) {
+            sort(a, from, to, work, workBase);
+            return;
+        }
+        if (work == null) {
+            work = new double[n];
+            workBase = 0;
+        }
+        double[] w = work;
+        int wb = workBase;
+
+        // Count all digits of each chunk
+        int size = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][8 << RADIX];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    double v = a[i];
+                    long k = key(v);
+                    for (int d = 0, shift = 0; d < 8; d++, shift += RADIX) {
+                        count[(d << RADIX) + ((int) (k >>> shift) & MASK)]++;
+                    }
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Distribute by the most significant digit that varies
+        int d = topDigit(counts, 8, n);
+        if (d < 0) {
+            return; // all elements are equal
+        }
+        int shift = d * RADIX;
+        int[] start = scatterOffsets(counts, d << RADIX);
+        tasks.clear();
+        for (int c = 0; c < chunks; c++) {
+            int lo = from + c * size, hi = Math.min(to, lo + size);
+            int[] count = counts[c];
+            int base = d << RADIX;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = lo; i < hi; i++) {
+                    double v = a[i];
+                    long k = key(v);
+                    w[wb + count[base + ((int) (k >>> shift) & MASK)]++] = v;
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Sort each bucket on the lower digits, back into the array
+        tasks.clear();
+        for (int b = 0; b < BUCKETS; b++) {
+            int lo = start[b], len = start[b + 1] - lo;
+            if (len > 0) {
+                tasks.add(ForkJoinTask.adapt(() ->
+                    sort(w, wb + lo, a, from + lo, len, d, true)));
+            }
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /*
+     * Support for the above.
+     */
+
+    /**
+     * Turns the counts of one digit into the index at which the first
+     * element with each digit goes, and returns false if every element
+     * has the same digit, in which case the counts are left alone.
+     */
+    private static boolean toOffsets(int[] count, int c, int n) {
+        int sum = 0;
+        for (int i = c, end = c + BUCKETS; i < end; i++) {
+            int k = count[i];
+            if (k == n) {
+                return false;
+            }
+            count[i] = sum;
+            sum += k;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the most significant digit on which the elements counted in
+     * all chunks differ, or -1 if they have the same value.
+     */
+    private static int topDigit(int[][] counts, int digits, int n) {
+        for (int d = digits - 1; d >= 0; d--) {
+            int c = d << RADIX;
+            for (int b = c, end = c + BUCKETS; b < end; b++) {
+                int total = 0;
+                for (int[] count : counts) {
+                    total += count[b];
+                }
+                if (total == n) {
+                    break; // every element has digit b
+                }
+                if (total != 0) {
+                    return d;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Turns the counts of each chunk for the digits at c into the index
+     * at which the chunk's first element with each digit goes, so that
+     * the chunks can be distributed independently and stably, and returns
+     * the start of each digit's bucket, followed by the total.
+     */
+    private static int[] scatterOffsets(int[][] counts, int c) {
+        int[] start = new int[BUCKETS + 1];
+        int sum = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            start[b] = sum;
+            for (int[] count : counts) {
+                int k = count[c + b];
+                count[c + b] = sum;
+                sum += k;
+            }
+        }
+        start[BUCKETS] = sum;
+        return start;
+    }
+
+    /*
+     * Objects sorted by long keys.
+     */
+
+    /**
+     * Sorts the specified range of the array by the keys extracted from
+     * its elements.  The sort is stable.
+     *
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param keyExtractor the function that extracts the sort key
+     */
+    static <T> void sort(T[] a, int from, int to,
+                         ToLongFunction<? super T> keyExtractor) {
+        int n = to - from;
+        if (n < RADIX_SORT_THRESHOLD) {
+            TimSort.sort(a, from, to, (x, y) -> Long.compare(
+                keyExtractor.applyAsLong(x), keyExtractor.applyAsLong(y)),
+                null, 0, 0);
+            return;
+        }
+        long[] keys = new long[n];
+        int[] count = new int[8 << RADIX];
+        for (int i = 0; i < n; i++) {
+            long k = keyExtractor.applyAsLong(a[from + i]) ^ Long.MIN_VALUE;
+            keys[i] = k;
+            for (int d = 0, shift = 0; d < 8; d++, shift += RADIX) {
+                count[(d << RADIX) + ((int) (k >>> shift) & MASK)]++;
+            }
+        }
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        long[] keyWork = new long[n];
+        int[] indexWork = new int[n];
+        for (int d = 0, shift = 0; d < 8; d++, shift += RADIX) {
+            int c = d << RADIX;
+            if (!toOffsets(count, c, n)) {
+                continue; // every element has the same digit
+            }
+            for (int i = 0; i < n; i++) {
+                long k = keys[i];
+                int j = count[c + ((int) (k >>> shift) & MASK)]++;
+                keyWork[j] = k;
+                indexWork[j] = index[i];
+            }
+            long[] tk = keys; keys = keyWork; keyWork = tk;
+            int[] ti = index; index = indexWork; indexWork = ti;
+        }
+        Object[] copy = Arrays.copyOfRange(a, from, to, Object[].class);
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            T t = (T) copy[index[i]];
+            a[from + i] = t;
+        }
+    }
+}
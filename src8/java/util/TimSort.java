@@ -26,6 +26,8 @@
 
 package java.util;
 
+import java.util.concurrent.RecursiveAction;
+
 /**
  * A stable, adaptive, iterative mergesort that requires far fewer than
  * n lg(n) comparisons when running on partially sorted arrays, while
@@ -113,8 +115,8 @@ class TimSort<T> {
 
     /**
      * Temp storage for merges. A workspace array may optionally be
-     * provided in constructor, and if so will be used as long as it
-     * is big enough.
+     * provided in constructor, and if so will be used until a merge
+     * needs more space than it has.
      */
     private T[] tmp;
     private int tmpBase; // base of tmp array slice
@@ -151,7 +153,7 @@ class TimSort<T> {
         int len = a.length;
         int tlen = (len < 2 * INITIAL_TMP_STORAGE_LENGTH) ?
             len >>> 1 : INITIAL_TMP_STORAGE_LENGTH;
-        if (work == null || workLen < tlen || workBase + tlen > work.length) {
+        if (work == null || workLen == 0 || workBase + workLen > work.length) {
             @SuppressWarnings({"unchecked", "UnnecessaryLocalVariable"})
             T[] newArray = (T[])java.lang.reflect.Array.newInstance
                 (a.getClass().getComponentType(), tlen);
@@ -187,7 +189,7 @@ class TimSort<T> {
     }
 
     /*
-     * The next method (package private and static) constitutes the
+     * The next two methods (package private and static) constitute the
      * entire API of this class.
      */
 
@@ -255,6 +257,152 @@ class TimSort<T> {
         assert ts.stackSize == 1;
     }
 
+    /**
+     * Sorts the given range in parallel, using the given workspace array
+     * slice, which must be at least as long as the range, for temp
+     * storage. This method is designed to be invoked from public methods
+     * (in class Arrays) after performing any necessary array bounds checks
+     * and expanding parameters into the required forms.
+     *
+     * The range is split in halves down to the granularity {@code gran},
+     * and each piece is sorted by the sequential sort above, so that the
+     * natural runs of all pieces are found and exploited in parallel.
+     * Sorted sibling pieces are then merged as two runs. As in mergeAt,
+     * the merge starts by galloping to find where the first element of the
+     * second run goes in the first, and where the last element of the
+     * first run goes in the second; the elements outside that window are
+     * already in place, so pieces that are already in order cost only a
+     * few comparisons. A window no longer than the granularity is merged
+     * in place by mergeLo or mergeHi. A longer one is merged into the
+     * workspace by a ParallelMerger and copied back.
+     *
+     * @param a the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     * @param c the comparator to use
+     * @param work a workspace array (slice) of length at least hi - lo
+     * @param workBase origin of usable space in work array
+     * @param gran the length below which pieces are sorted sequentially
+     * @since 1.8
+     */
+    static <T> void parallelSort(T[] a, int lo, int hi, Comparator<? super T> c,
+                                 T[] work, int workBase, int gran) {
+        assert c != null && a != null && lo >= 0 && lo <= hi && hi <= a.length;
+        assert work != null && work != a && workBase >= 0 &&
+            workBase + (hi - lo) <= work.length && gran > 1;
+        new ParallelSorter<>(a, lo, hi, c, work, workBase - lo, gran).invoke();
+    }
+
+    /**
+     * The task of parallelSort: sorts a[lo, hi), whose workspace is
+     * work[lo + workOffset, hi + workOffset).
+     */
+    static final class ParallelSorter<T> extends RecursiveAction {
+        private static final long serialVersionUID = 2446542900576103244L;
+        final T[] a, w;
+        final int lo, hi, wOffset, gran;
+        final Comparator<? super T> c;
+
+        ParallelSorter(T[] a, int lo, int hi, Comparator<? super T> c,
+                       T[] w, int wOffset, int gran) {
+            this.a = a; this.lo = lo; this.hi = hi; this.c = c;
+            this.w = w; this.wOffset = wOffset; this.gran = gran;
+        }
+
+        protected void compute() {
+            T[] a = this.a, w = this.w;
+            Comparator<? super T> c = this.c;
+            int lo = this.lo, hi = this.hi, wo = this.wOffset, g = this.gran;
+            if (hi - lo <= g) {
+                sort(a, lo, hi, c, w, lo + wo, hi - lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ParallelSorter<>(a, lo, mid, c, w, wo, g),
+                      new ParallelSorter<>(a, mid, hi, c, w, wo, g));
+
+            if (c.compare(a[mid - 1], a[mid]) <= 0)
+                return;  // Already in order
+            int base1 = lo + gallopRight(a[mid], a, lo, mid - lo, 0, c);
+            int len1 = mid - base1;
+            int len2 = gallopLeft(a[mid - 1], a, mid, hi - mid, hi - mid - 1, c);
+            if (len1 + len2 <= g) {
+                TimSort<T> ts = new TimSort<>(a, c, w, lo + wo, hi - lo);
+                if (len1 <= len2)
+                    ts.mergeLo(base1, len1, mid, len2);
+                else
+                    ts.mergeHi(base1, len1, mid, len2);
+            } else {
+                new ParallelMerger<>(a, base1, mid, mid, mid + len2, c,
+                                     w, base1 + wo, g).invoke();
+                System.arraycopy(w, base1 + wo, a, base1, len1 + len2);
+            }
+        }
+    }
+
+    /**
+     * Stably merges the sorted runs a[lo1, hi1) and a[lo2, hi2), the
+     * first preceding the second, into w starting at wBase. If the runs
+     * are longer than the granularity in total, the longer one is split
+     * at its midpoint, the shorter at the matching insertion point, and
+     * the two halves are merged in parallel.
+     */
+    static final class ParallelMerger<T> extends RecursiveAction {
+        private static final long serialVersionUID = 2446542900576103244L;
+        final T[] a, w;
+        final int lo1, hi1, lo2, hi2, wBase, gran;
+        final Comparator<? super T> c;
+
+        ParallelMerger(T[] a, int lo1, int hi1, int lo2, int hi2,
+                       Comparator<? super T> c, T[] w, int wBase, int gran) {
+            this.a = a; this.lo1 = lo1; this.hi1 = hi1;
+            this.lo2 = lo2; this.hi2 = hi2; this.c = c;
+            this.w = w; this.wBase = wBase; this.gran = gran;
+        }
+
+        protected void compute() {
+            T[] a = this.a, w = this.w;
+            Comparator<? super T> c = this.c;
+            int lo1 = this.lo1, hi1 = this.hi1, lo2 = this.lo2, hi2 = this.hi2;
+            int k = this.wBase, g = this.gran;
+            int len1 = hi1 - lo1, len2 = hi2 - lo2;
+            if (len1 + len2 > g) {
+                int mid1, mid2;
+                if (len1 >= len2) {
+                    // Elements of run2 equal to the split go after it
+                    mid1 = (lo1 + hi1) >>> 1;
+                    mid2 = (len2 == 0) ? lo2 :
+                        lo2 + gallopLeft(a[mid1], a, lo2, len2, 0, c);
+                } else {
+                    // Elements of run1 equal to the split go before it
+                    mid2 = (lo2 + hi2) >>> 1;
+                    mid1 = (len1 == 0) ? lo1 :
+                        lo1 + gallopRight(a[mid2], a, lo1, len1, 0, c);
+                }
+                invokeAll(new ParallelMerger<>(a, lo1, mid1, lo2, mid2,
+                                               c, w, k, g),
+                          new ParallelMerger<>(a, mid1, hi1, mid2, hi2,
+                                               c, w, k + (mid1 - lo1) + (mid2 - lo2), g));
+                return;
+            }
+
+            if (len1 == 0 || len2 == 0 || c.compare(a[hi1 - 1], a[lo2]) <= 0) {
+                System.arraycopy(a, lo1, w, k, len1);
+                System.arraycopy(a, lo2, w, k + len1, len2);
+            } else if (c.compare(a[hi2 - 1], a[lo1]) < 0) {
+                System.arraycopy(a, lo2, w, k, len2);
+                System.arraycopy(a, lo1, w, k + len2, len1);
+            } else {
+                while (lo1 < hi1 && lo2 < hi2)
+                    w[k++] = (c.compare(a[lo2], a[lo1]) < 0) ? a[lo2++] : a[lo1++];
+                if (lo1 < hi1)
+                    System.arraycopy(a, lo1, w, k, hi1 - lo1);
+                else
+                    System.arraycopy(a, lo2, w, k, hi2 - lo2);
+            }
+        }
+    }
+
     /**
      * Sorts the specified portion of the specified array using a binary
      * insertion sort.  This is the best method for sorting small numbers
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe pool of canonical instances whose members are only weakly
+ * referenced.  {@link #intern(Object) intern(value)} returns the pooled
+ * instance {@linkplain Object#equals equal} to {@code value}, adding
+ * {@code value} to the pool first if there is none.  Code that interns
+ * the values it keeps, such as the names read by a parser or the keys of
+ * loaded properties, thereby stores one instance of each distinct value.
+ *
+ * <p>Unlike {@link String#intern()}, an interner can hold values of any
+ * type whose {@code equals} and {@code hashCode} are consistent and do not
+ * change, its size can be observed and it can be discarded as a whole.
+ * A member is dropped from the pool once it is no longer strongly
+ * reachable; interning an equal value afterwards adds that value as the
+ * new canonical instance.
+ *
+ * <p>The pool is divided into a number of independently locked segments,
+ * chosen by hash code, so that threads interning different values rarely
+ * contend.  Members cleared by the garbage collector are removed when
+ * their references are dequeued, at the start of each call to
+ * {@link #intern} and {@link #size}.
+ *
+ * <p>The interner counts how many calls found an existing member
+ * ({@link #hitCount}), how many added one ({@link #missCount}), and how
+ * many members have been removed after being collected
+ * ({@link #expungedCount}).
+ *
+ * @param <T> the type of the pooled values
+ *
+ * @see     String#intern()
+ * @see     WeakHashMap
+ * @since   1.8
+ */
+public final class WeakInterner<T> {
+
+    /** The default number of segments. */
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    /** The maximum number of segments. */
+    private static final int MAXIMUM_CONCURRENCY_LEVEL = 1 << 16;
+
+    /** The initial and minimum table length of a segment. */
+    private static final int MINIMUM_SEGMENT_CAPACITY = 16;
+
+    private final Segment<T>[] segments;
+    private final int segmentShift;
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expunged = new LongAdder();
+
+    /**
+     * Creates an empty interner with the default number of segments (16).
+     */
+    public WeakInterner() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates an empty interner with at least the given number of
+     * segments, which bounds the number of threads that can add members
+     * at the same time without blocking each other.
+     *
+     * @param  concurrencyLevel the estimated number of concurrently
+     *         interning threads
+     * @throws IllegalArgumentException if {@code concurrencyLevel} is not
+     *         positive
+     */
+    @SuppressWarnings("unchecked")
+    public WeakInterner(int concurrencyLevel) {
+        if (concurrencyLevel <= 0)
+            throw new IllegalArgumentException("Illegal concurrency level: " +
+                                               concurrencyLevel);
+        int n = 1;
+        int bits = 0;
+        while (n < concurrencyLevel && n < MAXIMUM_CONCURRENCY_LEVEL) {
+            n <<= 1;
+            bits++;
+        }
+        segmentShift = 32 - bits;
+        segments = (Segment<T>[]) new Segment<?>[n];
+        for (int i = 0; i < n; i++)
+            segments[i] = new Segment<>();
+    }
+
+    /**
+     * Returns the canonical instance equal to the given value.  If the
+     * pool has a member equal to {@code value}, that member is returned;
+     * otherwise {@code value} becomes a member and is returned.
+     *
+     * @param  value the value to intern
+     * @return the pooled instance equal to {@code value}
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public T intern(T value) {
+        int h = hash(value.hashCode());
+        expungeStaleEntries();
+        return segmentFor(h).intern(this, value, h);
+    }
+
+    /**
+     * Returns the pooled instance equal to the given value, without adding
+     * it, or {@code null} if there is none.
+     *
+     * @param  value the value to look up
+     * @return the pooled instance equal to {@code value}, or {@code null}
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public T get(Object value) {
+        int h = hash(value.hashCode());
+        return segmentFor(h).get(value, h);
+    }
+
+    /**
+     * Returns the number of members in the pool.  Members that have been
+     * collected but not yet expunged may still be counted, and the result
+     * is only a snapshot when other threads are interning concurrently.
+     *
+     * @return the number of members in the pool
+     */
+    public int size() {
+        expungeStaleEntries();
+        long n = 0;
+        for (Segment<T> s : segments)
+            n += s.count();
+        return (n > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Returns the number of calls to {@link #intern} that returned an
+     * existing member.
+     *
+     * @return the number of hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of calls to {@link #intern} that added their
+     * argument to the pool.
+     *
+     * @return the number of misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of members that have been removed from the pool
+     * after being collected.
+     *
+     * @return the number of expunged members
+     */
+    public long expungedCount() {
+        return expunged.sum();
+    }
+
+    /**
+     * Returns a string describing the size and the counters of this
+     * interner.
+     *
+     * @return a string representation of this interner
+     */
+    public String toString() {
+        return "WeakInterner[size=" + size() + ", hits=" + hitCount() +
+            ", misses=" + missCount() + ", expunged=" + expungedCount() + "]";
+    }
+
+    /*
+     * Spreads the hash code so that both the segment, chosen by the high
+     * bits, and the bucket, chosen by the low bits, depend on all of it.
+     */
+    private static int hash(int h) {
+        h ^= (h >>> 20) ^ (h >>> 12);
+        return h ^ (h >>> 7) ^ (h >>> 4);
+    }
+
+    private Segment<T> segmentFor(int h) {
+        return (segmentShift == 32) ? segments[0] : segments[h >>> segmentShift];
+    }
+
+    private void expungeStaleEntries() {
+        Object x;
+        while ((x = queue.poll()) != null) {
+            @SuppressWarnings("unchecked")
+            Entry<T> e = (Entry<T>) x;
+            if (segmentFor(e.hash).remove(e))
+                expunged.increment();
+        }
+    }
+
+    /**
+     * A member of the pool, chained in its bucket.
+     */
+    private static final class Entry<T> extends WeakReference<T> {
+        final int hash;
+        Entry<T> next;
+
+        Entry(T referent, int hash, Entry<T> next, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A separately locked hash table of weakly referenced members.
+     */
+    private static final class Segment<T> {
+        private Entry<T>[] table = newTable(MINIMUM_SEGMENT_CAPACITY);
+        private int count;
+
+        @SuppressWarnings("unchecked")
+        private static <T> Entry<T>[] newTable(int n) {
+            return (Entry<T>[]) new Entry<?>[n];
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized T get(Object value, int h) {
+            Entry<T>[] tab = table;
+            for (Entry<T> e = tab[h & (tab.length - 1)]; e != null; e = e.next) {
+                if (e.hash == h) {
+                    T v = e.get();
+                    if (v != null && (v == value || value.equals(v)))
+                        return v;
+                }
+            }
+            return null;
+        }
+
+        synchronized T intern(WeakInterner<T> owner, T value, int h) {
+            Entry<T>[] tab = table;
+            int i = h & (tab.length - 1);
+            for (Entry<T> e = tab[i]; e != null; e = e.next) {
+                if (e.hash == h) {
+                    T v = e.get();
+                    if (v != null && (v == value || value.equals(v))) {
+                        owner.hits.increment();
+                        return v;
+                    }
+                }
+            }
+            if (count >= tab.length - (tab.length >>> 2)) {
+                tab = resize(owner, tab);
+                i = h & (tab.length - 1);
+            }
+            tab[i] = new Entry<>(value, h, tab[i], owner.queue);
+            count++;
+            owner.misses.increment();
+            return value;
+        }
+
+        synchronized boolean remove(Entry<T> entry) {
+            Entry<T>[] tab = table;
+            int i = entry.hash & (tab.length - 1);
+            Entry<T> prev = null;
+            for (Entry<T> e = tab[i]; e != null; prev = e, e = e.next) {
+                if (e == entry) {
+                    if (prev == null)
+                        tab[i] = e.next;
+                    else
+                        prev.next = e.next;
+                    e.next = null;
+                    count--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /*
+         * Unlinks the members that have been collected and, if the table
+         * is still three quarters full, doubles it.  Entries unlinked here
+         * are ignored when their references are dequeued later.
+         */
+        private Entry<T>[] resize(WeakInterner<T> owner, Entry<T>[] oldTab) {
+            int purged = 0;
+            for (int i = 0; i < oldTab.length; i++) {
+                Entry<T> prev = null;
+                for (Entry<T> e = oldTab[i]; e != null; ) {
+                    Entry<T> next = e.next;
+                    if (e.get() == null) {
+                        if (prev == null)
+                            oldTab[i] = next;
+                        else
+                            prev.next = next;
+                        e.next = null;
+                        purged++;
+                    } else {
+                        prev = e;
+                    }
+                    e = next;
+                }
+            }
+            if (purged > 0) {
+                count -= purged;
+                owner.expunged.add(purged);
+            }
+            if (count < oldTab.length - (oldTab.length >>> 2))
+                return oldTab;
+            Entry<T>[] newTab = newTable(oldTab.length << 1);
+            int mask = newTab.length - 1;
+            for (Entry<T> e : oldTab) {
+                while (e != null) {
+                    Entry<T> next = e.next;
+                    int i = e.hash & mask;
+                    e.next = newTab[i];
+                    newTab[i] = e;
+                    e = next;
+                }
+            }
+            table = newTab;
+            return newTab;
+        }
+    }
+}
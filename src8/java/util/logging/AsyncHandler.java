@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.logging;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <tt>Handler</tt> that publishes to a target <tt>Handler</tt> on a
+ * background thread.
+ * <p>
+ * Publishing a <tt>LogRecord</tt> only places it in a bounded ring buffer,
+ * without taking a lock, so that threads logging at the same time do not
+ * wait for one another or for the output to be formatted and written.  A
+ * single writer thread takes the records from the buffer in order and
+ * publishes them to the target <tt>Handler</tt>, which formats and writes
+ * them.  The target is flushed whenever the buffer has been emptied.
+ * <p>
+ * Since records are formatted after <tt>publish</tt> has returned, the
+ * parameters of a record should not be modified after it has been logged.
+ * The source class and method of a record are determined before it is
+ * placed in the buffer, as they could not be inferred on the writer thread,
+ * unless the target is known not to need them.
+ * <p>
+ * When the buffer is full, the {@linkplain OverflowPolicy overflow policy}
+ * decides whether the publishing thread waits for space or the record is
+ * discarded.  Discarded records are counted by {@link #getDroppedCount}.
+ * <p>
+ * <b>Configuration:</b>
+ * By default each <tt>AsyncHandler</tt> is initialized using the following
+ * <tt>LogManager</tt> configuration properties where <tt>&lt;handler-name&gt;</tt>
+ * refers to the fully-qualified class name of the handler.
+ * If properties are not defined
+ * (or have invalid values) then the specified default values are used.
+ * If no default value is defined then a RuntimeException is thrown.
+ * <ul>
+ * <li>   &lt;handler-name&gt;.level
+ *        specifies the level for the <tt>Handler</tt>
+ *        (defaults to <tt>Level.ALL</tt>). </li>
+ * <li>   &lt;handler-name&gt;.filter
+ *        specifies the name of a <tt>Filter</tt> class to use
+ *        (defaults to no <tt>Filter</tt>). </li>
+ * <li>   &lt;handler-name&gt;.size
+ *        defines the buffer size, rounded up to a power of two
+ *        (defaults to 8192). </li>
+ * <li>   &lt;handler-name&gt;.overflow
+ *        specifies the overflow policy, one of <tt>BLOCK</tt>,
+ *        <tt>DROP</tt> or <tt>SAMPLE</tt> (defaults to <tt>BLOCK</tt>). </li>
+ * <li>   &lt;handler-name&gt;.sample
+ *        specifies that one in this many records is kept when the buffer
+ *        is full and the overflow policy is <tt>SAMPLE</tt>
+ *        (defaults to 10). </li>
+ * <li>   &lt;handler-name&gt;.target
+ *        specifies the name of the target <tt>Handler </tt> class.
+ *        (no default). </li>
+ * </ul>
+ * <p>
+ * For example, the properties for {@code AsyncHandler} would be:
+ * <ul>
+ * <li>   java.util.logging.AsyncHandler.target=java.util.logging.FileHandler </li>
+ * <li>   java.util.logging.AsyncHandler.overflow=DROP </li>
+ * </ul>
+ *
+ * @since 1.8
+ */
+
+public class AsyncHandler extends Handler {
+
+    /**
+     * What to do with a <tt>LogRecord</tt> that is published while the
+     * buffer of an <tt>AsyncHandler</tt> is full.
+     *
+     * @since 1.8
+     */
+    public enum OverflowPolicy {
+        /**
+         * The publishing thread waits until there is space in the buffer.
+         * No records are lost, but logging slows down to the speed of the
+         * target <tt>Handler</tt>.
+         */
+        BLOCK,
+
+        /**
+         * The record is discarded.  Logging never waits.
+         */
+        DROP,
+
+        /**
+         * One in every <i>n</i> records is published as for {@link #BLOCK}
+         * and the others are discarded, so that some of the records
+         * logged during an overload are kept.
+         */
+        SAMPLE
+    }
+
+    private final static int DEFAULT_SIZE = 8192;
+    private final static int DEFAULT_SAMPLE = 10;
+    private final static int MAX_SIZE = 1 << 30;
+
+    // How long a publishing thread waits before looking for space again,
+    // and how long the writer sleeps when there is nothing to write
+    private final static long BLOCK_NANOS = 100_000L;
+    private final static long IDLE_NANOS = 100_000_000L;
+
+    // The longest a publishing thread waits for a notification of space
+    // before checking again that the writer is still running
+    private final static long SPACE_WAIT_MILLIS = 100L;
+
+    private Handler target;
+    private OverflowPolicy overflow;
+    private int sample;
+
+    // The ring buffer.  Records are claimed by advancing tail and are
+    // taken by the writer at head; a null slot below tail has been
+    // claimed but not filled in yet.
+    private AtomicReferenceArray<LogRecord> ring;
+    private int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // The number of records the target has finished publishing.  It lags
+    // head while the writer is publishing the record it took last.
+    private volatile long published;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicInteger sampleCount = new AtomicInteger();
+
+    // Threads waiting for space under the BLOCK and SAMPLE policies wait
+    // on this monitor; the writer notifies them as it empties the ring.
+    private final Object space = new Object();
+    private volatile int waiters;
+
+    private Thread writer;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    // Private method to configure an AsyncHandler from LogManager
+    // properties and/or default values as specified in the class
+    // javadoc.
+    private int configure() {
+        LogManager manager = LogManager.getLogManager();
+        String cname = getClass().getName();
+
+        int size = manager.getIntProperty(cname + ".size", DEFAULT_SIZE);
+        if (size <= 0) {
+            size = DEFAULT_SIZE;
+        }
+        String policy = manager.getStringProperty(cname + ".overflow", null);
+        overflow = OverflowPolicy.BLOCK;
+        if (policy != null) {
+            try {
+                overflow = OverflowPolicy.valueOf(policy.toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                // use the default
+            }
+        }
+        sample = manager.getIntProperty(cname + ".sample", DEFAULT_SAMPLE);
+        if (sample <= 0) {
+            sample = DEFAULT_SAMPLE;
+        }
+        setLevel(manager.getLevelProperty(cname + ".level", Level.ALL));
+        setFilter(manager.getFilterProperty(cname + ".filter", null));
+        return size;
+    }
+
+    /**
+     * Create an <tt>AsyncHandler</tt> and configure it based on
+     * <tt>LogManager</tt> configuration properties.
+     */
+    public AsyncHandler() {
+        sealed = false;
+        int size = configure();
+        sealed = true;
+
+        LogManager manager = LogManager.getLogManager();
+        String handlerName = getClass().getName();
+        String targetName = manager.getProperty(handlerName + ".target");
+        if (targetName == null) {
+            throw new RuntimeException("The handler " + handlerName
+                    + " does not specify a target");
+        }
+        Class<?> clz;
+        try {
+            clz = ClassLoader.getSystemClassLoader().loadClass(targetName);
+            target = (Handler) clz.newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException("AsyncHandler can't load handler target \"" + targetName + "\"" , e);
+        }
+        init(size);
+    }
+
+    /**
+     * Create an <tt>AsyncHandler</tt>.
+     * <p>
+     * The <tt>AsyncHandler</tt> is configured based on <tt>LogManager</tt>
+     * properties (or their default values) except that the given target,
+     * buffer size and overflow policy are used.
+     *
+     * @param target  the Handler to which to publish output.
+     * @param size    the number of log records to buffer, rounded up to a
+     *                power of two (must be greater than zero)
+     * @param overflow  what to do with records published while the buffer
+     *                is full
+     *
+     * @throws IllegalArgumentException if {@code size is <= 0}
+     */
+    public AsyncHandler(Handler target, int size, OverflowPolicy overflow) {
+        if (target == null || overflow == null) {
+            throw new NullPointerException();
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        sealed = false;
+        configure();
+        sealed = true;
+        this.target = target;
+        this.overflow = overflow;
+        init(size);
+    }
+
+    // Initialize the buffer and start the writer thread.
+    private void init(int size) {
+        int n = (size >= MAX_SIZE) ? MAX_SIZE
+                                   : Integer.highestOneBit(size - 1) << 1;
+        if (n == 0) {
+            n = 1;
+        }
+        ring = new AtomicReferenceArray<>(n);
+        mask = n - 1;
+        writer = AccessController.doPrivileged(new PrivilegedAction<Thread>() {
+            @Override
+            public Thread run() {
+                Thread t = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        write();
+                    }
+                }, "AsyncHandler writer");
+                t.setDaemon(true);
+                t.setContextClassLoader(null);
+                return t;
+            }
+        });
+        writer.start();
+    }
+
+    /**
+     * Place a <tt>LogRecord</tt> in the buffer for the writer thread.
+     * <p>
+     * If there is a <tt>Filter</tt>, its <tt>isLoggable</tt>
+     * method is called to check if the given log record is loggable.
+     * If not we return.  Otherwise the caller of the record is inferred
+     * and the record is placed in the buffer, waiting for space or
+     * discarding the record according to the overflow policy if the
+     * buffer is full.
+     *
+     * @param  record  description of the log event. A null record is
+     *                 silently ignored and is not published
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // Infer the caller while we are still on its thread
+        if (needsCaller()) {
+            record.getSourceClassName();
+        }
+
+        if (offer(record)) {
+            return;
+        }
+        if (overflow == OverflowPolicy.DROP
+                || (overflow == OverflowPolicy.SAMPLE
+                    && sampleCount.getAndIncrement() % sample != 0)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        synchronized (space) {
+            waiters++;
+            try {
+                while (!offer(record)) {
+                    if (closed || !writer.isAlive()) {
+                        dropped.incrementAndGet();
+                        return;
+                    }
+                    LockSupport.unpark(writer);
+                    space.wait(SPACE_WAIT_MILLIS);
+                }
+            } catch (InterruptedException ex) {
+                dropped.incrementAndGet();
+                Thread.currentThread().interrupt();
+            } finally {
+                waiters--;
+            }
+        }
+    }
+
+    // Tells whether the target may look at the caller of a record.  Only
+    // the stream handlers of this package are known to use nothing but
+    // their filter and formatter.
+    private boolean needsCaller() {
+        Class<?> c = target.getClass();
+        if (c != StreamHandler.class && c != ConsoleHandler.class
+                && c != FileHandler.class && c != SocketHandler.class) {
+            return true;
+        }
+        Formatter f = target.getFormatter();
+        return target.getFilter() != null || f == null || f.needsCaller();
+    }
+
+    // Add a record to the ring if there is space
+    private boolean offer(LogRecord record) {
+        final AtomicLong tail = this.tail;
+        long t;
+        do {
+            t = tail.get();
+            if (t - head.get() > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        ring.set((int) t & mask, record);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    // The body of the writer thread: publish records to the target until
+    // the handler is closed and the buffer is empty.
+    private void write() {
+        final AtomicReferenceArray<LogRecord> ring = this.ring;
+        final AtomicLong head = this.head;
+        final int half = (mask + 1) >>> 1;
+        int freed = 0;
+        boolean unflushed = false;
+        for (;;) {
+            long h = head.get();
+            int i = (int) h & mask;
+            LogRecord record = ring.get(i);
+            if (record != null) {
+                ring.lazySet(i, null);
+                head.set(h + 1);
+                if (++freed >= half && waiters > 0) {
+                    signalSpace();
+                    freed = 0;
+                }
+                try {
+                    target.publish(record);
+                } catch (Throwable ex) {
+                    // An Error must not stop the writer either, or
+                    // publishers would wait for space forever
+                    reportError(null, asException(ex), ErrorManager.WRITE_FAILURE);
+                }
+                published = h + 1;
+                unflushed = true;
+            } else if (tail.get() != h) {
+                // a slot has been claimed but not filled in yet
+                Thread.yield();
+            } else if (waiters > 0) {
+                signalSpace();
+                freed = 0;
+            } else if (unflushed) {
+                flushTarget();
+                unflushed = false;
+            } else if (closed) {
+                return;
+            } else {
+                writerParked = true;
+                if (tail.get() == h && waiters == 0 && !closed) {
+                    LockSupport.parkNanos(this, IDLE_NANOS);
+                }
+                writerParked = false;
+            }
+        }
+    }
+
+    private void signalSpace() {
+        synchronized (space) {
+            space.notifyAll();
+        }
+    }
+
+    private void flushTarget() {
+        try {
+            target.flush();
+        } catch (Throwable ex) {
+            reportError(null, asException(ex), ErrorManager.FLUSH_FAILURE);
+        }
+    }
+
+    // ErrorManager only takes an Exception
+    private static Exception asException(Throwable t) {
+        return (t instanceof Exception) ? (Exception) t : new Exception(t);
+    }
+
+    /**
+     * Wait until the records published so far have been written to the
+     * target <tt>Handler</tt>, then flush the target.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() != writer) {
+            long t = tail.get();
+            while (published < t && writer.isAlive()) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(this, BLOCK_NANOS);
+            }
+        }
+        flushTarget();
+    }
+
+    /**
+     * Close the <tt>Handler</tt> and free all associated resources.
+     * <p>
+     * Records that have already been published are written out before the
+     * writer thread stops.  This will also close the target <tt>Handler</tt>.
+     *
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     */
+    @Override
+    public void close() throws SecurityException {
+        setLevel(Level.OFF);
+        closed = true;
+        signalSpace();
+        if (Thread.currentThread() != writer) {
+            LockSupport.unpark(writer);
+            boolean interrupted = false;
+            while (writer.isAlive()) {
+                try {
+                    writer.join();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        target.close();
+    }
+
+    /**
+     * Get the overflow policy.
+     *
+     * @return what is done with records published while the buffer is full
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflow;
+    }
+
+    /**
+     * Get the number of records that were discarded because the buffer
+     * was full.
+     *
+     * @return the number of records discarded so far
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -26,14 +26,21 @@
 package java.util.logging;
 
 import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.FileAlreadyExistsException;
@@ -46,6 +53,12 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Simple file logging <tt>Handler</tt>.
@@ -94,6 +107,15 @@ import java.util.Set;
  * <li>   &lt;handler-name&gt;.append
  *        specifies whether the FileHandler should append onto
  *        any existing files (defaults to false). </li>
+ * <li>   &lt;handler-name&gt;.mapped
+ *        specifies whether the FileHandler should write to the
+ *        current file through a memory mapping rather than a stream
+ *        (defaults to false). </li>
+ * <li>   &lt;handler-name&gt;.compress
+ *        specifies whether rotated files should be compressed with
+ *        gzip, adding ".gz" to their names (defaults to false).  A
+ *        file that cannot be compressed is kept, and rotated, under
+ *        its uncompressed name. </li>
  * </ul>
  * <p>
  * For example, the properties for {@code FileHandler} would be:
@@ -129,6 +151,16 @@ import java.util.Set;
  * <p>
  * Generation numbers follow the sequence 0, 1, 2, etc.
  * <p>
+ * When the <tt>mapped</tt> or <tt>compress</tt> property is set, rotation
+ * only moves the current file aside and opens a new one.  Renaming the
+ * older generations, and compressing the file that was moved aside, is
+ * left to a background thread, so that logging is not held up while it
+ * happens.  A memory mapped file is written in segments that extend
+ * the file beyond the end of the output, and it is truncated to its
+ * actual length when it is closed; after a crash it may end in zero
+ * bytes, which are overwritten when output is next appended to it.  Output written to a memory mapped file is seen by other
+ * readers of the file without being flushed.
+ * <p>
  * Normally the "%u" unique field is set to 0.  However, if the <tt>FileHandler</tt>
  * tries to open the filename and finds the file is currently in use by
  * another process it will increment the unique number field and try
@@ -156,6 +188,10 @@ public class FileHandler extends StreamHandler {
     private String lockFileName;
     private FileChannel lockFileChannel;
     private File files[];
+    private boolean mapped;
+    private boolean compress;
+    private int rotations;
+    private Future<?> pendingRotation;
     private static final int MAX_LOCKS = 100;
     private static final Set<String> locks = new HashSet<>();
 
@@ -202,14 +238,149 @@ public class FileHandler extends StreamHandler {
         }
     }
 
+    /**
+     * An output stream that writes to a file through memory mapped
+     * segments of it.  Each segment extends the file past the data
+     * written so far; the file is truncated to the data when the stream
+     * is closed.  A file that was not closed may end in zero bytes from
+     * an unwritten part of its last segment, so when appending, output
+     * starts after the last non-zero byte of the file.
+     */
+    private static class MappedStream extends OutputStream {
+        private static final int SEGMENT_SIZE = 1 << 20;
+
+        private final FileChannel channel;
+        private MappedByteBuffer segment;
+        private long position;
+
+        MappedStream(File fname, boolean append) throws IOException {
+            channel = append
+                ? FileChannel.open(fname.toPath(), CREATE, READ, WRITE)
+                : FileChannel.open(fname.toPath(), CREATE, READ, WRITE,
+                                   TRUNCATE_EXISTING);
+            try {
+                position = append ? dataEnd(channel) : 0;
+                map();
+            } catch (IOException ix) {
+                channel.close();
+                throw ix;
+            }
+        }
+
+        // Returns the length of the file without any trailing zero bytes
+        private static long dataEnd(FileChannel channel) throws IOException {
+            long end = channel.size();
+            ByteBuffer buf = ByteBuffer.allocate(8192);
+            while (end > 0) {
+                long start = Math.max(0, end - buf.capacity());
+                buf.clear().limit((int)(end - start));
+                while (buf.hasRemaining()) {
+                    if (channel.read(buf, start + buf.position()) < 0) {
+                        return end;
+                    }
+                }
+                for (int i = buf.position() - 1; i >= 0; i--) {
+                    if (buf.get(i) != 0) {
+                        return start + i + 1;
+                    }
+                }
+                end = start;
+            }
+            return 0;
+        }
+
+        // The number of bytes of data in the file
+        long length() {
+            return position;
+        }
+
+        // Map the segment starting at the current position
+        private void map() throws IOException {
+            unmap();
+            segment = channel.map(FileChannel.MapMode.READ_WRITE,
+                                  position, SEGMENT_SIZE);
+        }
+
+        private void unmap() {
+            MappedByteBuffer mb = segment;
+            if (mb != null) {
+                segment = null;
+                sun.misc.Cleaner cleaner = ((sun.nio.ch.DirectBuffer) mb).cleaner();
+                if (cleaner != null) {
+                    cleaner.clean();
+                }
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (segment == null) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            if (!segment.hasRemaining()) {
+                map();
+            }
+            segment.put((byte) b);
+            position++;
+        }
+
+        @Override
+        public void write(byte buff[], int off, int len) throws IOException {
+            ensureOpen();
+            if ((off | len | (off + len) | (buff.length - (off + len))) < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            while (len > 0) {
+                if (!segment.hasRemaining()) {
+                    map();
+                }
+                int n = Math.min(len, segment.remaining());
+                segment.put(buff, off, n);
+                position += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() {
+            // The mapped pages are the file's contents; there is nothing
+            // to write out.
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (segment == null) {
+                return;
+            }
+            unmap();
+            try {
+                channel.truncate(position);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
     private void open(File fname, boolean append) throws IOException {
         int len = 0;
-        if (append) {
-            len = (int)fname.length();
+        OutputStream out;
+        if (mapped) {
+            MappedStream ms = new MappedStream(fname, append);
+            len = (int)ms.length();
+            out = ms;
+        } else {
+            if (append) {
+                len = (int)fname.length();
+            }
+            FileOutputStream fout = new FileOutputStream(fname.toString(), append);
+            out = new BufferedOutputStream(fout);
         }
-        FileOutputStream fout = new FileOutputStream(fname.toString(), append);
-        BufferedOutputStream bout = new BufferedOutputStream(fout);
-        meter = new MeteredStream(bout, len);
+        meter = new MeteredStream(out, len);
         setOutputStream(meter);
     }
 
@@ -232,6 +403,8 @@ public class FileHandler extends StreamHandler {
             count = 1;
         }
         append = manager.getBooleanProperty(cname + ".append", false);
+        mapped = manager.getBooleanProperty(cname + ".mapped", false);
+        compress = manager.getBooleanProperty(cname + ".compress", false);
         setLevel(manager.getLevelProperty(cname + ".level", Level.ALL));
         setFilter(manager.getFilterProperty(cname + ".filter", null));
         setFormatter(manager.getFormatterProperty(cname + ".formatter", new XMLFormatter()));
@@ -531,6 +704,10 @@ public class FileHandler extends StreamHandler {
             files[i] = generate(pattern, i, unique);
         }
 
+        // Finish the background rotations that an earlier handler for
+        // these files moved aside but did not get to complete.
+        recoverRotations();
+
         // Create the initial log file.
         if (append) {
             open(files[0], true);
@@ -647,14 +824,29 @@ public class FileHandler extends StreamHandler {
         setLevel(Level.OFF);
 
         super.close();
-        for (int i = count-2; i >= 0; i--) {
-            File f1 = files[i];
-            File f2 = files[i+1];
-            if (f1.exists()) {
-                if (f2.exists()) {
-                    f2.delete();
+        if (count > 1 && (mapped || compress)) {
+            if (!rotateInBackground()) {
+                // Keep writing to the current file rather than lose it
+                reportError("Unable to move " + files[0] + " aside", null,
+                            ErrorManager.GENERIC_FAILURE);
+                try {
+                    open(files[0], true);
+                } catch (IOException ix) {
+                    reportError(null, ix, ErrorManager.OPEN_FAILURE);
+                }
+                setLevel(oldLevel);
+                return;
+            }
+        } else {
+            for (int i = count-2; i >= 0; i--) {
+                File f1 = files[i];
+                File f2 = files[i+1];
+                if (f1.exists()) {
+                    if (f2.exists()) {
+                        f2.delete();
+                    }
+                    f1.renameTo(f2);
                 }
-                f1.renameTo(f2);
             }
         }
         try {
@@ -668,6 +860,180 @@ public class FileHandler extends StreamHandler {
         setLevel(oldLevel);
     }
 
+    // The single thread on which the FileHandlers that rotate in the
+    // background rename and compress their older files, in order
+    private static ExecutorService rotator;
+
+    private static synchronized ExecutorService rotator() {
+        if (rotator == null) {
+            rotator = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable r) {
+                    // The thread is created on first use, from whatever
+                    // context the logging call was made in
+                    return AccessController.doPrivileged(new PrivilegedAction<Thread>() {
+                        @Override
+                        public Thread run() {
+                            Thread t = new Thread(r, "FileHandler rotation");
+                            t.setDaemon(true);
+                            t.setContextClassLoader(null);
+                            return t;
+                        }
+                    });
+                }
+            });
+        }
+        return rotator;
+    }
+
+    // The suffix of the name of a file that has been moved aside
+    private static final String ROTATING_SUFFIX = ".rotating";
+
+    /**
+     * Move the current file aside and leave shifting the generations
+     * to the rotation thread.  Returns false if the current file exists
+     * but could not be moved, in which case nothing is done.
+     */
+    private boolean rotateInBackground() {
+        File current = files[0];
+        File moved = null;
+        if (current.exists()) {
+            // The name must not be in use, not even by a file left over by
+            // a crash, as renameTo does not replace files on all platforms
+            String prefix = current.getPath() + "." + System.currentTimeMillis();
+            File aside;
+            do {
+                aside = new File(prefix + "-" + (++rotations) + ROTATING_SUFFIX);
+            } while (aside.exists());
+            if (!current.renameTo(aside)) {
+                return false;
+            }
+            moved = aside;
+        }
+        submitRotation(moved);
+        return true;
+    }
+
+    /**
+     * Finish the rotations of files moved aside by an earlier handler for
+     * the same files that did not complete them, oldest first, as if each
+     * had just been moved aside.  With a single generation there is
+     * nowhere to put them, so they are deleted.
+     */
+    private void recoverRotations() {
+        File dir = files[0].getAbsoluteFile().getParentFile();
+        final String prefix = files[0].getName() + ".";
+        File[] stale = (dir == null) ? null : dir.listFiles(new java.io.FilenameFilter() {
+            @Override
+            public boolean accept(File d, String name) {
+                // Only <name>.<n>.rotating and <name>.<millis>-<n>.rotating;
+                // a longer name may belong to another handler's files
+                return name.startsWith(prefix) && name.endsWith(ROTATING_SUFFIX)
+                    && name.substring(prefix.length(),
+                                      name.length() - ROTATING_SUFFIX.length())
+                           .matches("([0-9]+-)?[0-9]+");
+            }
+        });
+        if (stale == null || stale.length == 0) {
+            return;
+        }
+        java.util.Arrays.sort(stale, new java.util.Comparator<File>() {
+            @Override
+            public int compare(File f1, File f2) {
+                return Long.compare(f1.lastModified(), f2.lastModified());
+            }
+        });
+        for (File f : stale) {
+            if (count > 1) {
+                submitRotation(f);
+            } else {
+                f.delete();
+            }
+        }
+    }
+
+    /**
+     * Have the rotation thread shift the generations, making moved, if
+     * not null, the first of the older generations.
+     */
+    private void submitRotation(final File moved) {
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                shiftGenerations(moved);
+            }
+        };
+        pendingRotation = rotator().submit(new Runnable() {
+            @Override
+            public void run() {
+                AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                    @Override
+                    public Void run() {
+                        task.run();
+                        return null;
+                    }
+                });
+            }
+        });
+    }
+
+    // The name of a rotated generation
+    private File generation(int i) {
+        return compress ? new File(files[i].getPath() + ".gz") : files[i];
+    }
+
+    // Delete a rotated generation, under either of its names: a file
+    // that could not be compressed is kept under the uncompressed name
+    private void deleteGeneration(int i) {
+        generation(i).delete();
+        if (compress) {
+            files[i].delete();
+        }
+    }
+
+    // Called on the rotation thread
+    private void shiftGenerations(File moved) {
+        for (int i = count-2; i >= 1; i--) {
+            File f1 = generation(i);
+            File f2 = generation(i+1);
+            if (compress && !f1.exists()) {
+                f1 = files[i];
+                f2 = files[i+1];
+            }
+            if (f1.exists()) {
+                deleteGeneration(i+1);
+                f1.renameTo(f2);
+            }
+        }
+        if (moved == null) {
+            return;
+        }
+        deleteGeneration(1);
+        if (compress) {
+            File first = generation(1);
+            try (InputStream in = new FileInputStream(moved);
+                 OutputStream out = new GZIPOutputStream(
+                                        new FileOutputStream(first))) {
+                byte[] buf = new byte[8192];
+                int n;
+                while ((n = in.read(buf)) > 0) {
+                    out.write(buf, 0, n);
+                }
+            } catch (IOException ix) {
+                // Keep it as the first generation, uncompressed
+                reportError(null, ix, ErrorManager.WRITE_FAILURE);
+                first.delete();
+                if (!moved.renameTo(files[1])) {
+                    moved.delete();
+                }
+                return;
+            }
+            moved.delete();
+        } else {
+            moved.renameTo(generation(1));
+        }
+    }
+
     /**
      * Format and publish a <tt>LogRecord</tt>.
      *
@@ -706,6 +1072,24 @@ public class FileHandler extends StreamHandler {
     @Override
     public synchronized void close() throws SecurityException {
         super.close();
+        // Let the older files settle before giving up the lock.
+        if (pendingRotation != null) {
+            boolean interrupted = false;
+            for (;;) {
+                try {
+                    pendingRotation.get();
+                    break;
+                } catch (InterruptedException ix) {
+                    interrupted = true;
+                } catch (ExecutionException ex) {
+                    break;
+                }
+            }
+            pendingRotation = null;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
         // Unlock any lock file.
         if (lockFileName == null) {
             return;
@@ -135,6 +135,10 @@ public abstract class Formatter {
             // 1 of the first 4 parameters
             if (format.indexOf("{0") >= 0 || format.indexOf("{1") >=0 ||
                         format.indexOf("{2") >=0|| format.indexOf("{3") >=0) {
+                String message = formatSimple(format, parameters);
+                if (message != null) {
+                    return message;
+                }
                 return java.text.MessageFormat.format(format, parameters);
             }
             return format;
@@ -144,4 +148,87 @@ public abstract class Formatter {
             return format;
         }
     }
+
+    // The builder reused by formatSimple on each thread, and the largest
+    // capacity kept so that one long message does not pin its buffer
+    private static final IndexedThreadLocal<StringBuilder> simpleBuilder =
+        new IndexedThreadLocal<>();
+    private static final int MAX_SIMPLE_BUILDER = 1024;
+
+    /*
+     * Formats a message whose only format elements are plain "{n}"
+     * arguments, none of which is a Number or a Date, without creating a
+     * MessageFormat.  The result is the same as MessageFormat.format, which
+     * substitutes such arguments by their string value, "null" for null,
+     * and "{n}", with n in canonical form, for missing arguments.  Returns null
+     * if the message uses anything else, such as quotes or format types.
+     */
+    private static String formatSimple(String format, Object[] parameters) {
+        StringBuilder sb = simpleBuilder.get();
+        if (sb == null) {
+            sb = new StringBuilder(format.length() + 16 * parameters.length);
+        } else {
+            // Taken out while in use, in case an argument's toString logs
+            simpleBuilder.set(null);
+        }
+        try {
+            return formatSimple(sb, format, parameters);
+        } finally {
+            if (sb.capacity() <= MAX_SIMPLE_BUILDER) {
+                sb.setLength(0);
+                simpleBuilder.set(sb);
+            }
+        }
+    }
+
+    private static String formatSimple(StringBuilder sb, String format,
+                                       Object[] parameters) {
+        int len = format.length();
+        int start = 0;
+        for (int i = 0; i < len; i++) {
+            char c = format.charAt(i);
+            if (c == '\'') {
+                return null;
+            }
+            if (c != '{') {
+                continue;
+            }
+            int n = 0;
+            int j = i + 1;
+            while (j < len && j - i <= 4) {
+                char d = format.charAt(j);
+                if (d < '0' || d > '9') {
+                    break;
+                }
+                n = n * 10 + (d - '0');
+                j++;
+            }
+            if (j == i + 1 || j == len || format.charAt(j) != '}') {
+                return null;
+            }
+            sb.append(format, start, i);
+            if (n >= parameters.length) {
+                sb.append('{').append(n).append('}');
+            } else {
+                Object arg = parameters[n];
+                if (arg instanceof Number || arg instanceof java.util.Date) {
+                    return null;
+                }
+                String s = (arg == null) ? null : arg.toString();
+                sb.append(s == null ? "null" : s);
+            }
+            start = j + 1;
+            i = j;
+        }
+        return sb.append(format, start, len).toString();
+    }
+
+    /*
+     * Package private: tells whether format needs the source class and
+     * method of a record.  Handlers that format on another thread use it
+     * to avoid inferring the caller for nothing.
+     */
+    boolean needsCaller() {
+        return true;
+    }
 }
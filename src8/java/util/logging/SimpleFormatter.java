@@ -29,6 +29,9 @@ package java.util.logging;
 import java.io.*;
 import java.text.*;
 import java.util.Date;
+import java.util.Formattable;
+import java.util.IllegalFormatException;
+import java.util.Locale;
 import sun.util.logging.LoggingSupport;
 
 /**
@@ -60,7 +63,77 @@ public class SimpleFormatter extends Formatter {
 
     // format string for printing the log record
     private static final String format = LoggingSupport.getSimpleFormat();
-    private final Date dat = new Date();
+
+    // The format string compiled for the default format locale, recompiled
+    // if that locale changes, and whether it prints the source argument,
+    // which requires the caller of the record to be inferred
+    private static volatile java.util.Formatter.Template template;
+    private static final boolean sourceNeeded;
+
+    static {
+        java.util.Formatter.Template t = null;
+        boolean needed = true;
+        try {
+            t = java.util.Formatter.compile(format);
+            SourceProbe probe = new SourceProbe();
+            t.formatTo(new StringBuilder(), new Date(), probe, "", "", "", "");
+            needed = probe.used;
+        } catch (IllegalFormatException ex) {
+            // Leave it to String.format to report the problem
+        }
+        template = t;
+        sourceNeeded = needed;
+    }
+
+    // Returns the template for the current default format locale, as
+    // String.format would use, or null if the format string is invalid
+    private static java.util.Formatter.Template template() {
+        java.util.Formatter.Template t = template;
+        if (t != null) {
+            Locale l = Locale.getDefault(Locale.Category.FORMAT);
+            if (!l.equals(t.locale())) {
+                template = t = java.util.Formatter.compile(l, format);
+            }
+        }
+        return t;
+    }
+
+    // Stands in for the source argument to find out whether the format
+    // string prints it
+    private static final class SourceProbe implements Formattable {
+        boolean used;
+
+        @Override
+        public void formatTo(java.util.Formatter f, int flags, int width,
+                             int precision) {
+            used = true;
+        }
+
+        @Override
+        public int hashCode() {
+            used = true;
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            used = true;
+            return "";
+        }
+    }
+
+    // Per-thread date and output buffer, reused from record to record
+    private static final class Buffer {
+        final Date date = new Date();
+        StringBuilder sb = new StringBuilder(INITIAL_BUFFER);
+        boolean busy;
+    }
+
+    private static final int INITIAL_BUFFER = 256;
+    private static final int MAX_BUFFER = 8192;
+
+    private static final ThreadLocal<Buffer> buffers =
+        IndexedThreadLocal.withInitial(Buffer::new);
 
     /**
      * Format the given LogRecord.
@@ -137,33 +210,65 @@ public class SimpleFormatter extends Formatter {
      * @param record the log record to be formatted.
      * @return a formatted log record
      */
-    public synchronized String format(LogRecord record) {
-        dat.setTime(record.getMillis());
-        String source;
-        if (record.getSourceClassName() != null) {
-            source = record.getSourceClassName();
-            if (record.getSourceMethodName() != null) {
-               source += " " + record.getSourceMethodName();
-            }
-        } else {
-            source = record.getLoggerName();
+    public String format(LogRecord record) {
+        Buffer buf = buffers.get();
+        if (buf.busy) {
+            // Called recursively, e.g. by a parameter's toString()
+            buf = new Buffer();
         }
-        String message = formatMessage(record);
-        String throwable = "";
-        if (record.getThrown() != null) {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
-            pw.println();
-            record.getThrown().printStackTrace(pw);
-            pw.close();
-            throwable = sw.toString();
+        buf.busy = true;
+        try {
+            buf.date.setTime(record.getMillis());
+            String source;
+            if (sourceNeeded && record.getSourceClassName() != null) {
+                source = record.getSourceClassName();
+                if (record.getSourceMethodName() != null) {
+                   source += " " + record.getSourceMethodName();
+                }
+            } else {
+                source = record.getLoggerName();
+            }
+            String message = formatMessage(record);
+            String throwable = "";
+            if (record.getThrown() != null) {
+                StringWriter sw = new StringWriter();
+                PrintWriter pw = new PrintWriter(sw);
+                pw.println();
+                record.getThrown().printStackTrace(pw);
+                pw.close();
+                throwable = sw.toString();
+            }
+            java.util.Formatter.Template t = template();
+            if (t == null) {
+                return String.format(format,
+                                     buf.date,
+                                     source,
+                                     record.getLoggerName(),
+                                     record.getLevel().getLocalizedLevelName(),
+                                     message,
+                                     throwable);
+            }
+            StringBuilder sb = buf.sb;
+            sb.setLength(0);
+            t.formatTo(sb,
+                              buf.date,
+                              source,
+                              record.getLoggerName(),
+                              record.getLevel().getLocalizedLevelName(),
+                              message,
+                              throwable);
+            String result = sb.toString();
+            if (sb.capacity() > MAX_BUFFER) {
+                buf.sb = new StringBuilder(INITIAL_BUFFER);
+            }
+            return result;
+        } finally {
+            buf.busy = false;
         }
-        return String.format(format,
-                             dat,
-                             source,
-                             record.getLoggerName(),
-                             record.getLevel().getLocalizedLevelName(),
-                             message,
-                             throwable);
+    }
+
+    @Override
+    boolean needsCaller() {
+        return sourceNeeded || getClass() != SimpleFormatter.class;
     }
 }